@@ -21,6 +21,12 @@ public class ViewConfig {
     public static final ViewConfig.Option<Boolean> CANCEL_ON_PICKUP = createOption("cancel-on-pickup", true);
     public static final ViewConfig.Option<Boolean> CANCEL_ON_DROP = createOption("cancel-on-drop", true);
     public static final ViewConfig.Option<Boolean> CANCEL_ON_DRAG = createOption("cancel-on-drag", true);
+    public static final ViewConfig.Option<Boolean> BATCH_STATE_UPDATES = createOption("batch-state-updates", true);
+    public static final ViewConfig.Option<Boolean> CONCURRENT_STATES = createOption("concurrent-states", true);
+    public static final ViewConfig.Option<Boolean> STATE_WATCHERS_ON_PLATFORM_THREAD =
+            createOption("state-watchers-on-platform-thread", true);
+    public static final ViewConfig.Option<Boolean> SKIP_UNCHANGED_UPDATES =
+            createOption("skip-unchanged-updates", true);
 
     private final Object title;
     private final int size;
@@ -191,6 +191,77 @@ public final class ViewConfigBuilder {
         return addOption(ViewConfig.CANCEL_ON_DRAG);
     }
 
+    /**
+     * Defers component updates caused by state changes to the next tick, so a component watching
+     * many states that change in the same tick is updated only once.
+     * <p>
+     * Pending updates can also be applied immediately through {@link
+     * me.devnatan.inventoryframework.context.IFRenderContext#flushStateUpdates()}.
+     *
+     * <p><b><i> This API is experimental and is not subject to the general compatibility guarantees
+     * such API may be changed or may be removed completely in any further release. </i></b>
+     *
+     * @return This configuration builder.
+     */
+    @ApiStatus.Experimental
+    public ViewConfigBuilder batchStateUpdates() {
+        return addOption(ViewConfig.BATCH_STATE_UPDATES);
+    }
+
+    /**
+     * Makes the states of contexts of the view safe to be read and updated from any thread,
+     * without external synchronization.
+     * <p>
+     * Watchers, such as components that watch a state, are notified in the thread that updated
+     * the state, see {@link #stateWatchersOnPlatformThread()} to notify them in the platform
+     * thread instead.
+     *
+     * <p><b><i> This API is experimental and is not subject to the general compatibility guarantees
+     * such API may be changed or may be removed completely in any further release. </i></b>
+     *
+     * @return This configuration builder.
+     */
+    @ApiStatus.Experimental
+    public ViewConfigBuilder concurrentStates() {
+        return addOption(ViewConfig.CONCURRENT_STATES);
+    }
+
+    /**
+     * Makes the states of contexts of the view safe to be updated from any thread, notifying
+     * watchers of state changes, such as components that watch a state, in the platform thread.
+     * <p>
+     * Everything done by the thread that updated a state before the update is visible to its
+     * watchers when they're notified.
+     *
+     * <p><b><i> This API is experimental and is not subject to the general compatibility guarantees
+     * such API may be changed or may be removed completely in any further release. </i></b>
+     *
+     * @return This configuration builder.
+     * @see #concurrentStates()
+     */
+    @ApiStatus.Experimental
+    public ViewConfigBuilder stateWatchersOnPlatformThread() {
+        return addOption(ViewConfig.CONCURRENT_STATES).addOption(ViewConfig.STATE_WATCHERS_ON_PLATFORM_THREAD);
+    }
+
+    /**
+     * Skips, on {@link #scheduleUpdate(long) scheduled updates}, components of contexts whose
+     * states have not changed since these components were last rendered or updated.
+     * <p>
+     * Should only be used if the components of the view are rendered exclusively from states,
+     * components that display anything else, such as the current time, will not be updated.
+     * Updates requested explicitly, e.g.: {@code context.update()}, are never skipped.
+     *
+     * <p><b><i> This API is experimental and is not subject to the general compatibility guarantees
+     * such API may be changed or may be removed completely in any further release. </i></b>
+     *
+     * @return This configuration builder.
+     */
+    @ApiStatus.Experimental
+    public ViewConfigBuilder skipUnchangedUpdates() {
+        return addOption(ViewConfig.SKIP_UNCHANGED_UPDATES);
+    }
+
     /**
      * Schedules the view to update every fixed interval.
      *
@@ -5,6 +5,7 @@ import me.devnatan.inventoryframework.Ref;
 import me.devnatan.inventoryframework.ViewContainer;
 import me.devnatan.inventoryframework.VirtualView;
 import me.devnatan.inventoryframework.context.IFContext;
+import me.devnatan.inventoryframework.pipeline.Pipeline;
 import me.devnatan.inventoryframework.pipeline.PipelinePhase;
 import me.devnatan.inventoryframework.pipeline.Pipelined;
 import me.devnatan.inventoryframework.state.State;
@@ -146,4 +147,18 @@ public interface Component extends VirtualView, Pipelined {
      */
     @ApiStatus.Internal
     void setHandle(ComponentHandle handle);
+
+    /**
+     * <b><i> This is an internal inventory-framework API that should not be used from outside of
+     * this library. No compatibility guarantees are provided. </i></b>
+     * <p>
+     * Pipeline used to execute the phases of this component. Unlike {@link #getPipeline()} this
+     * does not create a component own pipeline, the returned pipeline may be the
+     * {@link ComponentHandle#getSharedPipeline() handle shared pipeline} and must not be modified.
+     *
+     * @return The pipeline to execute this component phases on.
+     */
+    @ApiStatus.Internal
+    @NotNull
+    Pipeline<VirtualView> getExecutionPipeline();
 }
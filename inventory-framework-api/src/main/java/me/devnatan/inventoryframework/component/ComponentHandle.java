@@ -5,11 +5,43 @@ import me.devnatan.inventoryframework.context.IFComponentContext;
 import me.devnatan.inventoryframework.context.IFComponentRenderContext;
 import me.devnatan.inventoryframework.context.IFComponentUpdateContext;
 import me.devnatan.inventoryframework.context.IFSlotClickContext;
+import me.devnatan.inventoryframework.pipeline.Pipeline;
 import me.devnatan.inventoryframework.pipeline.PipelineInterceptor;
+import me.devnatan.inventoryframework.pipeline.PipelinePhase;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 public abstract class ComponentHandle implements PipelineInterceptor<VirtualView> {
 
+    private volatile Pipeline<VirtualView> pipeline;
+
+    /**
+     * <b><i> This is an internal inventory-framework API that should not be used from outside of
+     * this library. No compatibility guarantees are provided. </i></b>
+     * <p>
+     * Frozen pipeline with all component phases intercepted by this handle, shared by every
+     * component that uses this handle and has no interceptors of its own. Stateless handles
+     * should be reused across components so that they share a single pipeline.
+     *
+     * @return The shared pipeline of this handle.
+     */
+    @ApiStatus.Internal
+    public final @NotNull Pipeline<VirtualView> getSharedPipeline() {
+        Pipeline<VirtualView> shared = pipeline;
+        if (shared == null) {
+            shared = new Pipeline<>(Component.RENDER, Component.UPDATE, Component.CLICK, Component.CLEAR);
+            for (final PipelinePhase phase :
+                    new PipelinePhase[] {Component.RENDER, Component.UPDATE, Component.CLEAR, Component.CLICK}) {
+
+                shared.intercept(phase, this);
+            }
+
+            pipeline = shared.freeze();
+        }
+
+        return shared;
+    }
+
     /**
      * Renders this component to the given context.
      *
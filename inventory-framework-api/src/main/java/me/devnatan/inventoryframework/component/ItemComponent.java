@@ -6,6 +6,18 @@ public interface ItemComponent extends Component {
 
     int getPosition();
 
+    /**
+     * Moves this component to another position, the component must be rendered again to be
+     * displayed in its new position.
+     * <p>
+     * <b><i> This is an internal inventory-framework API that should not be used from outside of
+     * this library. No compatibility guarantees are provided. </i></b>
+     *
+     * @param position The new position.
+     */
+    @ApiStatus.Internal
+    void setPosition(int position);
+
     /**
      * <b><i> This is an internal inventory-framework API that should not be used from outside of
      * this library. No compatibility guarantees are provided. </i></b>
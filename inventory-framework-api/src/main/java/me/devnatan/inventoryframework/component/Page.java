@@ -0,0 +1,116 @@
+package me.devnatan.inventoryframework.component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnmodifiableView;
+
+/**
+ * A single page of elements fetched by a {@link WindowedPaginationSource}, optionally with the
+ * total number of elements available in the data source it was fetched from.
+ * <p>
+ * <b><i> This API is experimental and is not subject to the general compatibility guarantees
+ * such API may be changed or may be removed completely in any further release. </i></b>
+ *
+ * @param <T> The pagination data type.
+ */
+@ApiStatus.Experimental
+public final class Page<T> {
+
+    private static final Page<?> EMPTY = new Page<>(Collections.emptyList(), 0);
+
+    private final List<T> elements;
+    private final long totalCount;
+
+    private Page(@NotNull List<T> elements, long totalCount) {
+        this.elements = elements;
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * Creates a page with the given elements from a data source whose total number of elements is
+     * unknown.
+     * <p>
+     * Without a total count, another page is assumed to be available as long as the fetched page
+     * is full.
+     *
+     * @param elements The elements of the page.
+     * @param <T>      The pagination data type.
+     * @return A new page.
+     */
+    public static <T> @NotNull Page<T> of(@NotNull List<T> elements) {
+        return new Page<>(Objects.requireNonNull(elements, "Page elements cannot be null"), -1);
+    }
+
+    /**
+     * Creates a page with the given elements from a data source with {@code totalCount} elements.
+     *
+     * @param elements   The elements of the page.
+     * @param totalCount Total number of elements in the data source, across all pages.
+     * @param <T>        The pagination data type.
+     * @return A new page.
+     * @throws IllegalArgumentException If the total count is negative.
+     */
+    public static <T> @NotNull Page<T> of(@NotNull List<T> elements, long totalCount) {
+        if (totalCount < 0) throw new IllegalArgumentException("Page total count cannot be negative");
+        return new Page<>(Objects.requireNonNull(elements, "Page elements cannot be null"), totalCount);
+    }
+
+    /**
+     * An empty page from an empty data source.
+     *
+     * @param <T> The pagination data type.
+     * @return An empty page with a total count of zero.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> @NotNull Page<T> empty() {
+        return (Page<T>) EMPTY;
+    }
+
+    /**
+     * Elements of this page.
+     *
+     * @return An unmodifiable view of the elements of this page.
+     */
+    public @UnmodifiableView @NotNull List<T> getElements() {
+        return Collections.unmodifiableList(elements);
+    }
+
+    /**
+     * Total number of elements in the data source this page was fetched from.
+     *
+     * @return The total number of elements or {@code -1} if it's unknown.
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * If the total number of elements in the data source this page was fetched from is known.
+     *
+     * @return {@code true} if {@link #getTotalCount()} is known or {@code false} otherwise.
+     */
+    public boolean hasTotalCount() {
+        return totalCount != -1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Page<?> page = (Page<?>) o;
+        return totalCount == page.totalCount && Objects.equals(elements, page.elements);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(elements, totalCount);
+    }
+
+    @Override
+    public String toString() {
+        return "Page{" + "elements=" + elements + ", totalCount=" + totalCount + '}';
+    }
+}
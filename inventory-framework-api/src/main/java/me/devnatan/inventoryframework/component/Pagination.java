@@ -2,8 +2,8 @@ package me.devnatan.inventoryframework.component;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.RandomAccess;
 import me.devnatan.inventoryframework.state.StateValueHost;
 import org.jetbrains.annotations.ApiStatus;
 
@@ -190,6 +190,32 @@ public interface Pagination extends ComponentComposition {
     @ApiStatus.Internal
     boolean isAsync();
 
+    /**
+     * Windowed pagination have a {@link WindowedPaginationSource} as source provider and this
+     * provider is called each time the page is changed or this component is updated to fetch only
+     * the elements of the {@link #currentPage() current page}, the number of pages is then based on
+     * the total count reported by the fetched page.
+     * <p>
+     * Windowed pagination is always {@link #isAsync() asynchronous}.
+     * <p>
+     * <b><i> This is an internal inventory-framework API that should not be used from outside of
+     * this library. No compatibility guarantees are provided. </i></b>
+     */
+    @ApiStatus.Internal
+    boolean isWindowed();
+
+    /**
+     * Streaming pagination have a {@link StreamingPaginationSource} as source provider and pulls
+     * the elements of the {@link #currentPage() current page} and of the next page from an iterator
+     * when the page is changed, the total number of elements is unknown so a next page is only
+     * available while the iterator has more elements.
+     * <p>
+     * <b><i> This is an internal inventory-framework API that should not be used from outside of
+     * this library. No compatibility guarantees are provided. </i></b>
+     */
+    @ApiStatus.Internal
+    boolean isStreaming();
+
     /**
      * If the pagination data is being loaded.
      *
@@ -205,6 +231,8 @@ public interface Pagination extends ComponentComposition {
     /**
      * Forces the pagination to update everything internally ignoring everything, including
      * {@link #isLazy() lazy} data source to be computed again.
+     * <p>
+     * Cached pages, if any, are invalidated so every page is loaded again when switched to.
      *
      * <p><b><i> This API is experimental and is not subject to the general compatibility guarantees
      * such API may be changed or may be removed completely in any further release. </i></b>
@@ -214,6 +242,10 @@ public interface Pagination extends ComponentComposition {
 
     /**
      * Gets all elements in a given page index based of the specified source.
+     * <p>
+     * The returned list is an unmodifiable view of the page in the source, so no element is copied
+     * and changes to the source are reflected in it. Sources that doesn't support
+     * {@link RandomAccess random access} are copied to a new list for the page instead.
      *
      * @param index The page index.
      * @param pageSize Number of elements that each page can have.
@@ -226,18 +258,16 @@ public interface Pagination extends ComponentComposition {
     static List<?> splitSourceForPage(int index, int pageSize, int pagesCount, List<?> src) {
         if (src.isEmpty()) return Collections.emptyList();
 
-        if (src.size() <= pageSize) return new ArrayList<>(src);
+        if (src.size() <= pageSize) return Collections.unmodifiableList(src);
         if (index < 0 || (pagesCount > 0 && index > pagesCount))
             throw new IndexOutOfBoundsException(String.format(
                     "Page index must be between the range of 0 and %d. Given: %d", pagesCount - 1, index));
 
-        final List<Object> contents = new LinkedList<>();
         final int base = index * pageSize;
-        int until = base + pageSize;
-        if (until > src.size()) until = src.size();
-
-        for (int i = base; i < until; i++) contents.add(src.get(i));
+        final int until = Math.min(base + pageSize, src.size());
+        if (base >= until) return Collections.emptyList();
 
-        return contents;
+        final List<?> contents = src.subList(base, until);
+        return src instanceof RandomAccess ? Collections.unmodifiableList(contents) : new ArrayList<>(contents);
     }
 }
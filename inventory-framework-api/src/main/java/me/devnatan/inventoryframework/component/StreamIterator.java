@@ -0,0 +1,35 @@
+package me.devnatan.inventoryframework.component;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Iterator over a {@link Stream} that closes the stream when it is closed.
+ *
+ * @param <T> The stream elements type.
+ */
+final class StreamIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private final Stream<T> stream;
+    private final Iterator<T> iterator;
+
+    StreamIterator(Stream<T> stream) {
+        this.stream = stream;
+        this.iterator = stream.iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public T next() {
+        return iterator.next();
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+}
@@ -0,0 +1,78 @@
+package me.devnatan.inventoryframework.component;
+
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Pagination data source that streams its elements through an {@link Iterator}, for data sources
+ * whose total number of elements is unknown or too large to be kept in memory such as files or
+ * database cursors.
+ * <p>
+ * Elements are pulled lazily, at most one page ahead of the current page, so the data source is
+ * never read as a whole. Pages are identified by the offset of their first element, so going back
+ * to a previous page opens the data source again at the offset of that page.
+ * <p>
+ * This is a {@link FunctionalInterface functional interface} whose functional method is
+ * {@link #open(Object, long)}.
+ * <p>
+ * <b><i> This API is experimental and is not subject to the general compatibility guarantees
+ * such API may be changed or may be removed completely in any further release. </i></b>
+ *
+ * @param <CONTEXT> Type of the pagination context
+ * @param <T> The pagination data type
+ */
+@ApiStatus.Experimental
+@FunctionalInterface
+public interface StreamingPaginationSource<CONTEXT, T> {
+
+    /**
+     * Opens an iterator over the elements of the data source, starting from the element at the
+     * given offset.
+     * <p>
+     * Iterators that are also {@link AutoCloseable} are closed when they're exhausted, when the
+     * data source is opened again, when the pagination is force updated or cleared, and when the
+     * context that displays the pagination is closed.
+     *
+     * @param context The pagination context.
+     * @param offset  Index of the first element to be iterated.
+     * @return An iterator starting from the element at the given offset.
+     */
+    @NotNull
+    Iterator<T> open(@NotNull CONTEXT context, long offset);
+
+    /**
+     * Creates a streaming source that opens a new iterator and skips the elements before the
+     * requested offset each time it is opened.
+     *
+     * @param iteratorFactory The function that creates a new iterator from the first element.
+     * @param <CONTEXT>       Type of the pagination context.
+     * @param <T>             The pagination data type.
+     * @return A new streaming pagination source.
+     */
+    static <CONTEXT, T> @NotNull StreamingPaginationSource<CONTEXT, T> ofIterator(
+            @NotNull Function<CONTEXT, Iterator<T>> iteratorFactory) {
+        return (context, offset) -> {
+            final Iterator<T> iterator = iteratorFactory.apply(context);
+            for (long i = 0; i < offset && iterator.hasNext(); i++) iterator.next();
+            return iterator;
+        };
+    }
+
+    /**
+     * Creates a streaming source that opens a new stream and skips the elements before the
+     * requested offset each time it is opened. Streams are closed along with the iterators opened
+     * from them.
+     *
+     * @param streamFactory The function that creates a new stream from the first element.
+     * @param <CONTEXT>     Type of the pagination context.
+     * @param <T>           The pagination data type.
+     * @return A new streaming pagination source.
+     */
+    static <CONTEXT, T> @NotNull StreamingPaginationSource<CONTEXT, T> ofStream(
+            @NotNull Function<CONTEXT, Stream<T>> streamFactory) {
+        return (context, offset) -> new StreamIterator<>(streamFactory.apply(context).skip(offset));
+    }
+}
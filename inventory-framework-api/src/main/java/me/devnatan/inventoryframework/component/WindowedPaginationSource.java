@@ -0,0 +1,38 @@
+package me.devnatan.inventoryframework.component;
+
+import java.util.concurrent.CompletableFuture;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Pagination data source that fetches a single window of elements at a time from a backing store
+ * instead of providing all elements at once.
+ * <p>
+ * This is a {@link FunctionalInterface functional interface} whose functional method is
+ * {@link #fetch(int, int, Object)}.
+ * <p>
+ * <b><i> This API is experimental and is not subject to the general compatibility guarantees
+ * such API may be changed or may be removed completely in any further release. </i></b>
+ *
+ * @param <CONTEXT> Type of the pagination context
+ * @param <T> The pagination data type
+ */
+@ApiStatus.Experimental
+@FunctionalInterface
+public interface WindowedPaginationSource<CONTEXT, T> {
+
+    /**
+     * Fetches the elements in the given window of the data source.
+     * <p>
+     * Called each time a page is rendered, with {@code offset} being the index of the first element
+     * of that page and {@code limit} the number of elements that fit in it. Pages with more than
+     * {@code limit} elements are truncated.
+     *
+     * @param offset  Index of the first element to be fetched.
+     * @param limit   Maximum number of elements to be fetched.
+     * @param context The pagination context.
+     * @return A CompletableFuture with the fetched page as result.
+     */
+    @NotNull
+    CompletableFuture<Page<T>> fetch(int offset, int limit, @NotNull CONTEXT context);
+}
@@ -3,6 +3,7 @@ package me.devnatan.inventoryframework.context;
 import java.util.List;
 import java.util.function.BiFunction;
 import me.devnatan.inventoryframework.UpdateReason;
+import me.devnatan.inventoryframework.ViewConfig;
 import me.devnatan.inventoryframework.ViewContainer;
 import me.devnatan.inventoryframework.component.Component;
 import me.devnatan.inventoryframework.component.ComponentBuilder;
@@ -88,6 +89,33 @@ public interface IFRenderContext extends IFConfinedContext {
     @ApiStatus.Internal
     void updateComponent(Component component, boolean force, UpdateReason reason);
 
+    /**
+     * Requests a component to be updated due to a change in a state it watches.
+     * <p>
+     * If {@link ViewConfig#BATCH_STATE_UPDATES state updates are batched}
+     * the component is only marked as dirty and updated once on the next {@link #flushStateUpdates() flush},
+     * otherwise it's updated immediately.
+     *
+     * <p><b><i>This is an internal inventory-framework API that should not be used from outside of
+     * this library. No compatibility guarantees are provided.</i></b>
+     *
+     * @param component The component to be updated.
+     */
+    @ApiStatus.Internal
+    void invalidateComponent(@NotNull Component component);
+
+    /**
+     * Updates, once, every component invalidated by state changes since the last flush.
+     * <p>
+     * Flushes happen automatically on the next tick after a component is invalidated while state
+     * updates are batched, this can be used to apply pending updates immediately.
+     *
+     * <p><b><i> This API is experimental and is not subject to the general compatibility guarantees
+     * such API may be changed or may be removed completely in any further release. </i></b>
+     */
+    @ApiStatus.Experimental
+    void flushStateUpdates();
+
     /**
      * <p><b><i>This is an internal inventory-framework API that should not be used from outside of
      * this library. No compatibility guarantees are provided.</i></b>
@@ -96,4 +124,75 @@ public interface IFRenderContext extends IFConfinedContext {
      */
     @ApiStatus.Internal
     void clearComponent(@NotNull Component component);
+
+    /**
+     * Registers watchers that update the given component when the states it
+     * {@link Component#getWatchingStates() is watching} change.
+     * <p>
+     * If the component is a {@link me.devnatan.inventoryframework.state.StateWatcher} the
+     * component itself is registered as the state watcher. Does nothing if the component
+     * states are already being watched.
+     *
+     * <p><b><i>This is an internal inventory-framework API that should not be used from outside of
+     * this library. No compatibility guarantees are provided.</i></b>
+     *
+     * @param component The component.
+     */
+    @ApiStatus.Internal
+    void watchComponentStates(@NotNull Component component);
+
+    /**
+     * Unregisters all watchers registered through {@link #watchComponentStates(Component)} for the
+     * given component, must be called when the component is discarded so that state changes no
+     * longer reach it.
+     *
+     * <p><b><i>This is an internal inventory-framework API that should not be used from outside of
+     * this library. No compatibility guarantees are provided.</i></b>
+     *
+     * @param component The component.
+     */
+    @ApiStatus.Internal
+    void unwatchComponentStates(@NotNull Component component);
+
+    /**
+     * If the states of this context have not changed since the given component was last
+     * rendered or updated.
+     * <p>
+     * Always {@code false} if {@link ViewConfig#SKIP_UNCHANGED_UPDATES unchanged updates are not
+     * skipped} since state versions are not tracked per component in that case.
+     *
+     * <p><b><i>This is an internal inventory-framework API that should not be used from outside of
+     * this library. No compatibility guarantees are provided.</i></b>
+     *
+     * @param component The component.
+     * @return {@code true} if the component is up-to-date with the states or {@code false} otherwise.
+     */
+    @ApiStatus.Internal
+    boolean isComponentUpToDate(@NotNull Component component);
+
+    /**
+     * If the update being executed in this context was scheduled by the
+     * {@link ViewConfig#getUpdateIntervalInTicks() update interval} instead of explicitly
+     * requested. Only scheduled updates skip {@link #isComponentUpToDate(Component) up-to-date}
+     * components.
+     *
+     * <p><b><i>This is an internal inventory-framework API that should not be used from outside of
+     * this library. No compatibility guarantees are provided.</i></b>
+     *
+     * @return {@code true} if a scheduled update is being executed or {@code false} otherwise.
+     */
+    @ApiStatus.Internal
+    boolean isScheduledUpdate();
+
+    /**
+     * Marks the update being executed in this context as scheduled or explicitly requested.
+     *
+     * <p><b><i>This is an internal inventory-framework API that should not be used from outside of
+     * this library. No compatibility guarantees are provided.</i></b>
+     *
+     * @param scheduledUpdate If a scheduled update is being executed.
+     * @see #isScheduledUpdate()
+     */
+    @ApiStatus.Internal
+    void setScheduledUpdate(boolean scheduledUpdate);
 }
@@ -0,0 +1,168 @@
+package me.devnatan.inventoryframework.pipeline;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Fixed-size, lock-free histogram of durations in nanoseconds.
+ * <p>
+ * Durations are grouped in power-of-two buckets, the bucket {@code i} counts durations in the
+ * {@code [2^(i - 1), 2^i)} nanoseconds range and the last bucket counts everything above it.
+ * Recording never allocates nor locks so it can be done from any thread.
+ */
+public final class LatencyHistogram {
+
+    /**
+     * Number of buckets of each histogram, enough to represent durations up to ~9 minutes.
+     */
+    public static final int BUCKETS = 40;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    LatencyHistogram() {}
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos The duration in nanoseconds.
+     */
+    void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+
+        buckets.incrementAndGet(bucketOf(nanos));
+        count.incrementAndGet();
+        totalNanos.addAndGet(nanos);
+
+        long currentMax;
+        do {
+            currentMax = maxNanos.get();
+            if (nanos <= currentMax) break;
+        } while (!maxNanos.compareAndSet(currentMax, nanos));
+    }
+
+    /**
+     * Creates a point-in-time copy of this histogram.
+     * <p>
+     * Values recorded concurrently with this call may be partially present in the snapshot.
+     *
+     * @return A snapshot of this histogram.
+     */
+    public @NotNull Snapshot snapshot() {
+        final long[] bucketsCopy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) bucketsCopy[i] = buckets.get(i);
+
+        return new Snapshot(count.get(), totalNanos.get(), maxNanos.get(), bucketsCopy);
+    }
+
+    static int bucketOf(long nanos) {
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    /**
+     * Upper bound, exclusive, in nanoseconds of the given bucket.
+     */
+    static long bucketUpperBound(int bucket) {
+        return bucket == BUCKETS - 1 ? Long.MAX_VALUE : 1L << bucket;
+    }
+
+    /**
+     * Immutable copy of a {@link LatencyHistogram}.
+     */
+    public static final class Snapshot {
+
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long[] buckets;
+
+        Snapshot(long count, long totalNanos, long maxNanos, long[] buckets) {
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.buckets = buckets;
+        }
+
+        /**
+         * Number of recorded durations.
+         *
+         * @return The number of recorded durations.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Sum of all recorded durations.
+         *
+         * @return The sum of all recorded durations in nanoseconds.
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * The longest recorded duration.
+         *
+         * @return The longest recorded duration in nanoseconds.
+         */
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * The average of all recorded durations.
+         *
+         * @return The average duration in nanoseconds or {@code 0} if nothing was recorded.
+         */
+        public long getMeanNanos() {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+
+        /**
+         * Number of durations recorded in the given bucket.
+         *
+         * @param bucket The bucket index, from {@code 0} to {@link LatencyHistogram#BUCKETS} (exclusive).
+         * @return The number of durations recorded in the bucket.
+         */
+        public long getBucketCount(int bucket) {
+            return buckets[bucket];
+        }
+
+        /**
+         * Estimates a percentile of the recorded durations.
+         * <p>
+         * Since durations are grouped in power-of-two buckets the returned value is the upper
+         * bound of the bucket that contains the percentile, capped by the longest recorded duration.
+         *
+         * @param percentile The percentile, from {@code 0.0} to {@code 1.0}.
+         * @return The estimated percentile duration in nanoseconds or {@code 0} if nothing was recorded.
+         */
+        public long getPercentileNanos(double percentile) {
+            if (percentile < 0 || percentile > 1)
+                throw new IllegalArgumentException("Percentile must be between 0.0 and 1.0: " + percentile);
+
+            if (count == 0) return 0;
+
+            final long target = Math.max(1, (long) Math.ceil(count * percentile));
+            long accumulated = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                accumulated += buckets[i];
+                if (accumulated >= target) return Math.min(maxNanos, bucketUpperBound(i));
+            }
+
+            return maxNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot{" + "count="
+                    + count + ", meanNanos="
+                    + getMeanNanos() + ", maxNanos="
+                    + maxNanos + '}';
+        }
+    }
+}
@@ -2,11 +2,13 @@ package me.devnatan.inventoryframework.pipeline;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
@@ -16,9 +18,15 @@ import org.jetbrains.annotations.TestOnly;
  * one after another, distributed in phases topologically ordered, with the ability to mutate the
  * sequence and to call the remaining functions in the pipeline and then return to current block.
  * <p>
- * All the functions are blocking, thus the whole pipeline is synchronous. Since pipelines contain
+ * All the functions are blocking, thus the whole pipeline is synchronous unless an interceptor
+ * {@link PipelineContext#suspendUntil(CompletionStage, Consumer) suspends} the execution, in that case
+ * the remaining interceptors are called when the execution is resumed. Since pipelines contain
  * blocks of code, they can be nested, effectively creating sub-pipelines.
  * <p>
+ * Phases and interceptors are kept in an immutable registry that is replaced as a whole on every
+ * modification (copy-on-write), so phases and interceptors can be registered from any thread and
+ * executions never lock, each execution sees the registry as it was when the execution started.
+ * <p>
  * Pipelines are used in IF as an extension mechanism to plug functionality in at the right place.
  *
  * @param <S> Pipeline subject type.
@@ -26,101 +34,583 @@ import org.jetbrains.annotations.TestOnly;
  */
 public final class Pipeline<S> {
 
-    private final List<PipelinePhase> _phases;
-    private final Map<PipelinePhase, List<PipelineInterceptor<S>>> interceptors = new HashMap<>();
+    /**
+     * Priority of interceptors registered without an explicit priority.
+     */
+    public static final int DEFAULT_PRIORITY = 0;
+
+    /**
+     * Priority of {@link PipelineGuard guards}, they run before any other interceptor of the phase.
+     */
+    public static final int GUARD_PRIORITY = Integer.MAX_VALUE;
+
+    private final Object registryLock = new Object();
+    private volatile Registry<S> registry;
+    private volatile PipelineMetrics metrics;
+    private volatile Executor resumeExecutor = Runnable::run;
+    private volatile boolean frozen;
 
     public Pipeline(PipelinePhase... phases) {
-        _phases = new LinkedList<>(Arrays.asList(phases));
+        registry = new Registry<>(phases.clone());
     }
 
-    private PipelinePhase findPhase(@NotNull PipelinePhase phase) {
-        final List<PipelinePhase> phasesList = _phases;
+    private Pipeline(Registry<S> registry, Executor resumeExecutor) {
+        this.registry = registry;
+        this.resumeExecutor = resumeExecutor;
+    }
 
-        for (int i = 0; i < phasesList.size(); i++) {
-            final PipelinePhase curr = phasesList.get(i);
-            if (curr.equals(phase)) {
-                phasesList.set(i, phase);
-                return curr;
-            }
-        }
+    /**
+     * Prevents any further modification of the phases and interceptors of this pipeline.
+     * <p>
+     * Frozen pipelines can be safely shared between many owners, owners that need to register
+     * their own interceptors must do it on a {@link #copy() copy} of the shared pipeline.
+     *
+     * @return This pipeline.
+     */
+    public @NotNull Pipeline<S> freeze() {
+        frozen = true;
+        return this;
+    }
 
-        return null;
+    /**
+     * If this pipeline was {@link #freeze() frozen}.
+     *
+     * @return {@code true} if phases and interceptors of this pipeline cannot be modified.
+     */
+    public boolean isFrozen() {
+        return frozen;
     }
 
-    private int findIndexOrThrow(@NotNull PipelinePhase phase) {
-        final List<PipelinePhase> phasesList = new ArrayList<>(_phases);
-        for (int i = 0; i < phasesList.size(); i++) {
-            final PipelinePhase curr = phasesList.get(i);
-            if (curr.equals(phase)) return i;
-        }
+    /**
+     * Creates a modifiable pipeline with the same phases and interceptors of this pipeline.
+     * <p>
+     * The registry is immutable so the copy shares it, and its compiled execution plans, until
+     * either pipeline is modified. Metrics are not copied.
+     *
+     * @return A new, not frozen, pipeline.
+     */
+    public @NotNull Pipeline<S> copy() {
+        return new Pipeline<>(registry, resumeExecutor);
+    }
 
-        throw new IllegalArgumentException(String.format("Phase %s was not registered for this pipeline", phase));
+    private void checkNotFrozen() {
+        if (frozen) throw new UnsupportedOperationException("Pipeline is frozen and cannot be modified");
     }
 
     public boolean hasPhase(@NotNull PipelinePhase phase) {
-        final List<PipelinePhase> phasesList = new ArrayList<>(_phases);
-        for (final PipelinePhase curr : phasesList) {
-            if (curr.equals(phase)) return true;
-        }
-
-        return false;
+        return registry.indexOf(phase) != -1;
     }
 
     public void addPhase(@NotNull PipelinePhase phase) {
-        if (hasPhase(phase)) return;
+        synchronized (registryLock) {
+            checkNotFrozen();
+            final Registry<S> current = registry;
+            if (current.indexOf(phase) != -1) return;
 
-        _phases.add(phase);
+            registry = current.withPhase(current.phases.length, phase);
+        }
     }
 
     public void insertPhaseBefore(@NotNull PipelinePhase reference, @NotNull PipelinePhase phase) {
-        if (hasPhase(phase)) return;
+        synchronized (registryLock) {
+            checkNotFrozen();
+            final Registry<S> current = registry;
+            if (current.indexOf(phase) != -1) return;
 
-        final int refIdx = findIndexOrThrow(reference);
-        _phases.add(refIdx, phase);
+            registry = current.withPhase(current.indexOfOrThrow(reference), phase);
+        }
     }
 
     public void insertPhaseAfter(@NotNull PipelinePhase reference, @NotNull PipelinePhase phase) {
-        if (hasPhase(phase)) return;
+        synchronized (registryLock) {
+            checkNotFrozen();
+            final Registry<S> current = registry;
+            if (current.indexOf(phase) != -1) return;
 
-        final int refIdx = findIndexOrThrow(reference);
-        _phases.add(refIdx + 1, phase);
+            registry = current.withPhase(current.indexOfOrThrow(reference) + 1, phase);
+        }
     }
 
-    @SuppressWarnings("unchecked")
     public void intercept(final @NotNull PipelinePhase phase, @NotNull PipelineInterceptor<? extends S> interceptor) {
-        final PipelinePhase pipelinePhase = findPhase(phase);
-        if (pipelinePhase == null)
-            throw new IllegalArgumentException(String.format("Phase %s was not registered for this pipeline", phase));
+        register(phase, null, DEFAULT_PRIORITY, interceptor);
+    }
 
-        interceptors.computeIfAbsent(phase, $ -> new ArrayList<>()).add((PipelineInterceptor<S>) interceptor);
+    /**
+     * Registers an interceptor that is only called for subjects of the given type.
+     * <p>
+     * Unlike checking the subject type inside the interceptor, non-matching interceptors are
+     * filtered out when the execution plan is resolved for a subject class, so they are never called.
+     *
+     * @param phase       The phase to intercept.
+     * @param subjectType Type that the pipeline subject must be an instance of.
+     * @param interceptor The interceptor.
+     * @param <T>         The subject type.
+     * @throws IllegalArgumentException If the given phase was not registered for this pipeline.
+     */
+    public <T extends S> void intercept(
+            @NotNull PipelinePhase phase,
+            @NotNull Class<T> subjectType,
+            @NotNull PipelineInterceptor<? super T> interceptor) {
+        register(phase, subjectType, DEFAULT_PRIORITY, interceptor);
+    }
+
+    /**
+     * Registers an interceptor that is only called for subjects of the given type with the given
+     * priority.
+     * <p>
+     * Interceptors of a phase are called from the highest to the lowest priority, interceptors
+     * with the same priority are called in registration order. The order is resolved on
+     * registration so it has no cost on executions.
+     *
+     * @param phase       The phase to intercept.
+     * @param subjectType Type that the pipeline subject must be an instance of.
+     * @param priority    The interceptor priority, {@link #DEFAULT_PRIORITY} by default.
+     * @param interceptor The interceptor.
+     * @param <T>         The subject type.
+     * @throws IllegalArgumentException If the given phase was not registered for this pipeline.
+     */
+    public <T extends S> void intercept(
+            @NotNull PipelinePhase phase,
+            @NotNull Class<T> subjectType,
+            int priority,
+            @NotNull PipelineInterceptor<? super T> interceptor) {
+        register(phase, subjectType, priority, interceptor);
+    }
+
+    /**
+     * Registers a guard that runs before every other interceptor of the phase and finishes the
+     * whole execution, skipping all remaining interceptors of this and of the following phases,
+     * when it rejects the subject.
+     *
+     * @param phase       The phase to guard.
+     * @param subjectType Type that the pipeline subject must be an instance of.
+     * @param guard       The guard.
+     * @param <T>         The subject type.
+     * @throws IllegalArgumentException If the given phase was not registered for this pipeline.
+     * @see PipelineGuard
+     */
+    public <T extends S> void guard(
+            @NotNull PipelinePhase phase, @NotNull Class<T> subjectType, @NotNull PipelineGuard<? super T> guard) {
+        register(phase, subjectType, GUARD_PRIORITY, guard);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void register(
+            @NotNull PipelinePhase phase,
+            Class<?> subjectType,
+            int priority,
+            @NotNull PipelineInterceptor<?> interceptor) {
+        final Registration<S> registration =
+                new Registration<>((PipelineInterceptor<S>) interceptor, subjectType, priority);
+
+        synchronized (registryLock) {
+            checkNotFrozen();
+            final Registry<S> current = registry;
+            final int index = current.indexOfOrThrow(phase);
+            registry = current.withRegistration(index, registration);
+        }
     }
 
     public void removeInterceptor(@NotNull PipelineInterceptor<? extends S> interceptor) {
-        for (Map.Entry<PipelinePhase, List<PipelineInterceptor<S>>> registeredInterceptor : interceptors.entrySet())
-            registeredInterceptor.getValue().remove(interceptor);
+        synchronized (registryLock) {
+            checkNotFrozen();
+            final Registry<S> current = registry;
+            Registry<S> updated = current;
+            for (int i = 0; i < current.phases.length; i++) updated = updated.withoutInterceptor(i, interceptor);
+
+            registry = updated;
+        }
     }
 
     public void removeInterceptor(@NotNull PipelinePhase phase, @NotNull PipelineInterceptor<? extends S> interceptor) {
-        interceptors.computeIfAbsent(phase, $ -> new ArrayList<>()).remove(interceptor);
+        synchronized (registryLock) {
+            checkNotFrozen();
+            final Registry<S> current = registry;
+            final int index = current.indexOf(phase);
+            if (index != -1) registry = current.withoutInterceptor(index, interceptor);
+        }
     }
 
     public void execute(@Nullable S subject) {
-        final List<PipelineInterceptor<S>> pipelineInterceptors = new LinkedList<>();
-        for (final PipelinePhase phase : _phases) {
-            final List<PipelineInterceptor<S>> interceptors = this.interceptors.get(phase);
-            if (interceptors == null) continue;
-
-            pipelineInterceptors.addAll(interceptors);
+        final PipelineExecutionPlan<S> plan = registry.getPlan();
+        final PipelineInterceptor<S>[] interceptors = plan.interceptorsFor(subject);
+        final PipelineMetrics metrics = this.metrics;
+        if (metrics == null) {
+            createContext(null, interceptors, null).execute(subject);
+            return;
         }
 
-        final PipelineContext<S> context = new PipelineContext<>(null, pipelineInterceptors);
-        context.execute(subject);
+        final long start = System.nanoTime();
+        try {
+            createMeasuredContext(plan, interceptors, metrics, subject).execute(subject);
+        } finally {
+            metrics.recordExecution(System.nanoTime() - start);
+        }
     }
 
     @TestOnly
     public void execute(@NotNull PipelinePhase phase, @Nullable S subject) {
-        final PipelineContext<S> context =
-                new PipelineContext<>(phase, interceptors.getOrDefault(phase, Collections.emptyList()));
-        context.execute(subject);
+        final PipelineInterceptor<S>[] interceptors = registry.getPlan(phase).interceptorsFor(subject);
+        final PipelineMetrics metrics = this.metrics;
+        if (metrics == null) {
+            createContext(phase, interceptors, null).execute(subject);
+            return;
+        }
+
+        final long start = System.nanoTime();
+        try {
+            createContext(phase, interceptors, metrics).execute(subject);
+        } finally {
+            metrics.recordPhase(phase, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Executes a single phase of this pipeline for each one of the given subjects, in iteration order.
+     * <p>
+     * The phase execution plan is resolved once for the whole batch instead of once per subject,
+     * and interceptors can access all subjects being executed through {@link PipelineContext#getBatch()}.
+     * Each subject still has its own execution so finishing or suspending one of them does not
+     * affect the others.
+     *
+     * @param phase    The phase to execute.
+     * @param subjects The pipeline subjects.
+     */
+    public void executeAll(@NotNull PipelinePhase phase, @NotNull Collection<? extends S> subjects) {
+        if (subjects.isEmpty()) return;
+
+        final PipelineExecutionPlan<S> plan = registry.getPlan(phase);
+        final PipelineMetrics metrics = this.metrics;
+        final Collection<? extends S> batch = Collections.unmodifiableCollection(subjects);
+
+        // batches are usually homogeneous, skip the dispatch table lookup while the subject class is the same
+        Class<?> lastSubjectClass = null;
+        PipelineInterceptor<S>[] interceptors = null;
+
+        for (final S subject : subjects) {
+            final Class<?> subjectClass = subject == null ? null : subject.getClass();
+            if (interceptors == null || subjectClass != lastSubjectClass) {
+                interceptors = plan.interceptorsFor(subject);
+                lastSubjectClass = subjectClass;
+            }
+
+            final PipelineContext<S> context = createContext(phase, interceptors, metrics);
+            context.setBatch(batch);
+
+            if (metrics == null) {
+                context.execute(subject);
+                continue;
+            }
+
+            final long start = System.nanoTime();
+            try {
+                context.execute(subject);
+            } finally {
+                metrics.recordPhase(phase, System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * Executes all phases of this pipeline tracking its completion across
+     * {@link PipelineContext#suspendUntil(CompletionStage, Consumer) suspensions}.
+     *
+     * @param subject The pipeline subject.
+     * @return A future that completes when the execution finishes or completes exceptionally if
+     * an interceptor fails or a suspension stage completes exceptionally.
+     */
+    public @NotNull CompletableFuture<Void> executeAsync(@Nullable S subject) {
+        final PipelineExecutionPlan<S> plan = registry.getPlan();
+        final PipelineInterceptor<S>[] interceptors = plan.interceptorsFor(subject);
+        final PipelineMetrics metrics = this.metrics;
+        if (metrics == null) return createContext(null, interceptors, null).executeAsync(subject);
+
+        // measured until completion so time spent suspended is included, as a blocking execution would
+        final long start = System.nanoTime();
+        return createMeasuredContext(plan, interceptors, metrics, subject)
+                .executeAsync(subject)
+                .whenComplete(($, exception) -> metrics.recordExecution(System.nanoTime() - start));
+    }
+
+    /**
+     * Executes a single phase of this pipeline tracking its completion across
+     * {@link PipelineContext#suspendUntil(CompletionStage, Consumer) suspensions}.
+     *
+     * @param phase   The phase to execute.
+     * @param subject The pipeline subject.
+     * @return A future that completes when the execution finishes or completes exceptionally if
+     * an interceptor fails or a suspension stage completes exceptionally.
+     */
+    public @NotNull CompletableFuture<Void> executeAsync(@NotNull PipelinePhase phase, @Nullable S subject) {
+        final PipelineInterceptor<S>[] interceptors = registry.getPlan(phase).interceptorsFor(subject);
+        final PipelineMetrics metrics = this.metrics;
+        if (metrics == null) return createContext(phase, interceptors, null).executeAsync(subject);
+
+        final long start = System.nanoTime();
+        return createContext(phase, interceptors, metrics)
+                .executeAsync(subject)
+                .whenComplete(($, exception) -> metrics.recordPhase(phase, System.nanoTime() - start));
+    }
+
+    private PipelineContext<S> createContext(
+            PipelinePhase phase, PipelineInterceptor<S>[] interceptors, PipelineMetrics metrics) {
+        return new PipelineContext<>(phase, interceptors, metrics, resumeExecutor);
+    }
+
+    /**
+     * Creates the context of an execution of all phases that records the latency of each one of
+     * them, as the time spent in the interceptors of that phase.
+     */
+    private PipelineContext<S> createMeasuredContext(
+            PipelineExecutionPlan<S> plan, PipelineInterceptor<S>[] interceptors, PipelineMetrics metrics, S subject) {
+        final PipelineContext<S> context = createContext(null, interceptors, metrics);
+        context.measurePhases(plan.getPhases(), plan.phaseIndexesFor(subject));
+        return context;
+    }
+
+    /**
+     * The executor in which suspended executions are resumed.
+     *
+     * @return The resume executor of this pipeline.
+     * @see #setResumeExecutor(Executor)
+     */
+    public @NotNull Executor getResumeExecutor() {
+        return resumeExecutor;
+    }
+
+    /**
+     * Sets the executor in which suspended executions are resumed.
+     * <p>
+     * By default, executions are resumed in the thread that completed the stage the execution
+     * was suspended on. Platforms that require interceptors to run in a specific thread should
+     * provide an executor that runs tasks in that thread.
+     *
+     * @param resumeExecutor The executor to resume suspended executions.
+     * @see PipelineContext#suspendUntil(CompletionStage, Consumer)
+     */
+    public void setResumeExecutor(@NotNull Executor resumeExecutor) {
+        this.resumeExecutor = resumeExecutor;
+    }
+
+    /**
+     * Starts collecting call counts and latencies of this pipeline executions.
+     * <p>
+     * Metrics are disabled by default, while disabled nothing is measured.
+     *
+     * @see #getMetrics()
+     */
+    public void enableMetrics() {
+        synchronized (registryLock) {
+            if (metrics == null) metrics = new PipelineMetrics();
+        }
+    }
+
+    /**
+     * Stops collecting metrics of this pipeline executions and discards the collected ones.
+     */
+    public void disableMetrics() {
+        metrics = null;
+    }
+
+    /**
+     * Metrics collected from this pipeline executions.
+     *
+     * @return Metrics of this pipeline or {@code null} if metrics are not enabled.
+     * @see #enableMetrics()
+     */
+    public @Nullable PipelineMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Immutable snapshot of the phases and interceptors of a pipeline.
+     * <p>
+     * Phases are looked up by their {@link PipelinePhase#getOrdinal() ordinal} in a position table
+     * and interceptors are stored in arrays indexed by phase position, so no lookup scans or
+     * copies the phases.
+     * <p>
+     * Execution plans are compiled lazily on first execution. Since a registry never changes,
+     * concurrent compilations produce equivalent plans and whichever is published last wins.
+     */
+    private static final class Registry<S> {
+
+        private static final int[] NO_POSITIONS = new int[0];
+
+        private final PipelinePhase[] phases;
+
+        /**
+         * Position of each phase in {@link #phases} indexed by phase ordinal, {@code -1} for phases
+         * that are not part of this registry.
+         */
+        private final int[] positions;
+
+        /**
+         * Registrations of each phase indexed by phase position, {@code null} for phases without
+         * interceptors.
+         */
+        private final Registration<S>[][] registrations;
+
+        /**
+         * Flattened interceptors of all phases in execution order.
+         */
+        private volatile PipelineExecutionPlan<S> plan;
+
+        /**
+         * Interceptors of each phase in execution order indexed by phase position.
+         */
+        private volatile PipelineExecutionPlan<S>[] phasePlans;
+
+        @SuppressWarnings("unchecked")
+        Registry(PipelinePhase[] phases) {
+            this(phases, (Registration<S>[][]) new Registration<?>[phases.length][]);
+        }
+
+        private Registry(PipelinePhase[] phases, Registration<S>[][] registrations) {
+            this.phases = phases;
+            this.registrations = registrations;
+
+            int maxOrdinal = -1;
+            for (final PipelinePhase phase : phases) maxOrdinal = Math.max(maxOrdinal, phase.getOrdinal());
+
+            final int[] positions = maxOrdinal == -1 ? NO_POSITIONS : new int[maxOrdinal + 1];
+            Arrays.fill(positions, -1);
+            for (int i = 0; i < phases.length; i++) positions[phases[i].getOrdinal()] = i;
+            this.positions = positions;
+        }
+
+        int indexOf(@NotNull PipelinePhase phase) {
+            final int ordinal = phase.getOrdinal();
+            return ordinal < positions.length ? positions[ordinal] : -1;
+        }
+
+        int indexOfOrThrow(@NotNull PipelinePhase phase) {
+            final int index = indexOf(phase);
+            if (index == -1)
+                throw new IllegalArgumentException(
+                        String.format("Phase %s was not registered for this pipeline", phase));
+
+            return index;
+        }
+
+        @SuppressWarnings("unchecked")
+        Registry<S> withPhase(int index, @NotNull PipelinePhase phase) {
+            final int length = phases.length;
+            final PipelinePhase[] newPhases = new PipelinePhase[length + 1];
+            final Registration<S>[][] newRegistrations = (Registration<S>[][]) new Registration<?>[length + 1][];
+
+            System.arraycopy(phases, 0, newPhases, 0, index);
+            System.arraycopy(phases, index, newPhases, index + 1, length - index);
+            System.arraycopy(registrations, 0, newRegistrations, 0, index);
+            System.arraycopy(registrations, index, newRegistrations, index + 1, length - index);
+            newPhases[index] = phase;
+
+            return new Registry<>(newPhases, newRegistrations);
+        }
+
+        @SuppressWarnings("unchecked")
+        Registry<S> withRegistration(int index, @NotNull Registration<S> registration) {
+            final Registration<S>[] current = registrations[index];
+            final Registration<S>[] updated;
+            if (current == null) updated = (Registration<S>[]) new Registration<?>[] {registration};
+            else {
+                // keeps registrations sorted by descending priority, after the ones with the same priority
+                int position = current.length;
+                while (position > 0 && current[position - 1].priority < registration.priority) position--;
+
+                updated = (Registration<S>[]) new Registration<?>[current.length + 1];
+                System.arraycopy(current, 0, updated, 0, position);
+                System.arraycopy(current, position, updated, position + 1, current.length - position);
+                updated[position] = registration;
+            }
+
+            final Registration<S>[][] newRegistrations = registrations.clone();
+            newRegistrations[index] = updated;
+            return new Registry<>(phases, newRegistrations);
+        }
+
+        @SuppressWarnings("unchecked")
+        Registry<S> withoutInterceptor(int index, @NotNull PipelineInterceptor<?> interceptor) {
+            final Registration<S>[] current = registrations[index];
+            if (current == null) return this;
+
+            for (int i = 0; i < current.length; i++) {
+                if (!current[i].interceptor.equals(interceptor)) continue;
+
+                final Registration<S>[] updated = (Registration<S>[]) new Registration<?>[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+
+                final Registration<S>[][] newRegistrations = registrations.clone();
+                newRegistrations[index] = updated.length == 0 ? null : updated;
+                return new Registry<>(phases, newRegistrations);
+            }
+
+            return this;
+        }
+
+        PipelineExecutionPlan<S> getPlan() {
+            PipelineExecutionPlan<S> compiled = plan;
+            if (compiled == null) {
+                final List<Registration<S>> flattened = new ArrayList<>();
+                final List<PipelinePhase> flattenedPhases = new ArrayList<>();
+                for (int i = 0; i < registrations.length; i++) {
+                    final Registration<S>[] phaseRegistrations = registrations[i];
+                    if (phaseRegistrations == null) continue;
+
+                    flattened.addAll(Arrays.asList(phaseRegistrations));
+                    for (int j = 0; j < phaseRegistrations.length; j++) flattenedPhases.add(phases[i]);
+                }
+
+                plan = compiled = compile(flattened, flattenedPhases);
+            }
+
+            return compiled;
+        }
+
+        @SuppressWarnings("unchecked")
+        PipelineExecutionPlan<S> getPlan(@NotNull PipelinePhase phase) {
+            final int index = indexOf(phase);
+            if (index == -1) return PipelineExecutionPlan.empty();
+
+            PipelineExecutionPlan<S>[] compiled = phasePlans;
+            if (compiled == null) {
+                compiled = (PipelineExecutionPlan<S>[]) new PipelineExecutionPlan<?>[registrations.length];
+                for (int i = 0; i < registrations.length; i++) {
+                    final Registration<S>[] phaseRegistrations = registrations[i];
+                    compiled[i] = phaseRegistrations == null
+                            ? PipelineExecutionPlan.empty()
+                            : compile(Arrays.asList(phaseRegistrations), null);
+                }
+
+                phasePlans = compiled;
+            }
+
+            return compiled[index];
+        }
+
+        private static <S> PipelineExecutionPlan<S> compile(
+                List<Registration<S>> registrations, List<PipelinePhase> interceptorPhases) {
+            final List<PipelineInterceptor<S>> interceptors = new ArrayList<>(registrations.size());
+            final List<Class<?>> subjectTypes = new ArrayList<>(registrations.size());
+            for (final Registration<S> registration : registrations) {
+                interceptors.add(registration.interceptor);
+                subjectTypes.add(registration.subjectType);
+            }
+
+            return new PipelineExecutionPlan<>(interceptors, subjectTypes, interceptorPhases);
+        }
+    }
+
+    private static final class Registration<S> {
+
+        private final PipelineInterceptor<S> interceptor;
+        private final Class<?> subjectType;
+        private final int priority;
+
+        Registration(PipelineInterceptor<S> interceptor, Class<?> subjectType, int priority) {
+            this.interceptor = interceptor;
+            this.subjectType = subjectType;
+            this.priority = priority;
+        }
     }
 }
@@ -1,51 +1,278 @@
 package me.devnatan.inventoryframework.pipeline;
 
-import java.util.List;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
 import org.jetbrains.annotations.VisibleForTesting;
 
 @VisibleForTesting
 public class PipelineContext<S> {
 
     private final PipelinePhase phase;
-    private final List<PipelineInterceptor<S>> interceptors;
+    private final PipelineInterceptor<S>[] interceptors;
+    private final PipelineMetrics metrics;
+    private final Executor resumeExecutor;
     private S subject;
+    private Collection<? extends S> batch;
     private int index;
+    private boolean suspended;
 
-    PipelineContext(PipelinePhase phase, List<PipelineInterceptor<S>> interceptors) {
+    /**
+     * Stage and continuation of a requested suspension. The suspension is only scheduled after the
+     * interceptors loop unwinds so the resumption never runs concurrently with it.
+     */
+    private CompletableFuture<Object> pendingStage;
+    private Consumer<Object> pendingContinuation;
+    private Executor pendingExecutor;
+
+    /**
+     * Completed when this execution finishes, only present on executions that were started
+     * through {@link #executeAsync(Object)}.
+     */
+    private CompletableFuture<Void> completion;
+
+    /**
+     * Time spent in interceptors called while the current interceptor is running, used to
+     * compute exclusive interceptors latencies when {@link #metrics} are enabled.
+     */
+    private long nestedNanos;
+
+    /**
+     * Phases of an execution of all phases whose latencies are recorded, the index in it of the
+     * phase of each interceptor and the time spent in the interceptors of each phase so far, or
+     * {@code -1} if no interceptor of that phase was called.
+     */
+    private PipelinePhase[] measuredPhases;
+
+    private int[] interceptorPhaseIndexes;
+    private long[] phaseNanos;
+
+    PipelineContext(
+            PipelinePhase phase,
+            PipelineInterceptor<S>[] interceptors,
+            PipelineMetrics metrics,
+            @NotNull Executor resumeExecutor) {
         this.phase = phase;
         this.interceptors = interceptors;
+        this.metrics = metrics;
+        this.resumeExecutor = resumeExecutor;
     }
 
     public @Nullable PipelinePhase getPhase() {
         return phase;
     }
 
+    /**
+     * All subjects of the {@link Pipeline#executeAll(PipelinePhase, Collection) batch execution}
+     * this execution is part of, including the subject of this execution.
+     *
+     * @return An unmodifiable view of the batch subjects or {@code null} if this execution is not
+     * part of a batch execution.
+     */
+    public @Nullable @UnmodifiableView Collection<? extends S> getBatch() {
+        return batch;
+    }
+
+    void setBatch(Collection<? extends S> batch) {
+        this.batch = batch;
+    }
+
+    void measurePhases(PipelinePhase[] phases, int[] interceptorPhaseIndexes) {
+        this.measuredPhases = phases;
+        this.interceptorPhaseIndexes = interceptorPhaseIndexes;
+        this.phaseNanos = new long[phases.length];
+        Arrays.fill(phaseNanos, -1);
+    }
+
     /** Finishes current pipeline execution */
     public void finish() {
         index = -1;
     }
 
+    /**
+     * If this execution is suspended waiting for a {@link #suspendUntil(CompletionStage, Consumer) stage}
+     * to complete.
+     *
+     * @return {@code true} if this execution is suspended or {@code false} otherwise.
+     */
+    public boolean isSuspended() {
+        return suspended;
+    }
+
+    /**
+     * Suspends this execution until the given stage completes, then proceeds to the next interceptor.
+     *
+     * @param stage The stage to wait for.
+     * @see #suspendUntil(CompletionStage, Consumer)
+     */
+    public void suspendUntil(@NotNull CompletionStage<?> stage) {
+        suspendUntil(stage, $ -> {});
+    }
+
+    /**
+     * Suspends this execution until the given stage completes, then calls the continuation with
+     * the stage result and proceeds to the next interceptor unless the continuation
+     * {@link #finish() finishes} or suspends this execution again.
+     * <p>
+     * The calling interceptor must return right after suspending the execution, it must not be
+     * called while an interceptor is waiting for {@link #proceed()} to return since that
+     * interceptor would continue as if the remaining interceptors were already called.
+     * <p>
+     * If the stage is already completed the continuation is called immediately in the caller
+     * thread. Otherwise, the continuation and the remaining interceptors are called on the
+     * {@link Pipeline#setResumeExecutor(Executor) pipeline resume executor}.
+     * <p>
+     * If the stage completes exceptionally this execution is finished and the error is propagated
+     * to the {@link Pipeline#executeAsync(PipelinePhase, Object) execution future} if there is one,
+     * otherwise it's thrown by the resume executor task.
+     *
+     * @param stage        The stage to wait for.
+     * @param continuation Called with the stage result when it completes successfully.
+     * @param <T>          The stage result type.
+     * @throws IllegalStateException If this execution is already suspended.
+     */
+    public <T> void suspendUntil(@NotNull CompletionStage<T> stage, @NotNull Consumer<? super T> continuation) {
+        suspendUntil(stage, continuation, resumeExecutor);
+    }
+
+    /**
+     * Suspends this execution until the given stage completes, like
+     * {@link #suspendUntil(CompletionStage, Consumer)}, but resumes it on the given executor
+     * instead of the pipeline resume executor.
+     * <p>
+     * Used by executions of pipelines that are not bound to a platform, e.g. shared component
+     * pipelines, to resume on the resume executor of the pipeline that started them.
+     *
+     * @param stage          The stage to wait for.
+     * @param continuation   Called with the stage result when it completes successfully.
+     * @param resumeExecutor The executor to resume this execution if the stage is not completed.
+     * @param <T>            The stage result type.
+     * @throws IllegalStateException If this execution is already suspended.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void suspendUntil(
+            @NotNull CompletionStage<T> stage,
+            @NotNull Consumer<? super T> continuation,
+            @NotNull Executor resumeExecutor) {
+        if (suspended) throw new IllegalStateException("Pipeline execution is already suspended");
+
+        final CompletableFuture<T> future = stage.toCompletableFuture();
+        if (future.isDone()) {
+            continuation.accept(future.join());
+            return;
+        }
+
+        suspended = true;
+        pendingStage = (CompletableFuture<Object>) future;
+        pendingContinuation = (Consumer<Object>) continuation;
+        pendingExecutor = resumeExecutor;
+    }
+
+    private void scheduleResumption() {
+        final CompletableFuture<Object> stage = pendingStage;
+        final Consumer<Object> continuation = pendingContinuation;
+        final Executor executor = pendingExecutor;
+        pendingStage = null;
+        pendingContinuation = null;
+        pendingExecutor = null;
+
+        // nothing else must touch this context state after this point until it's resumed
+        stage.whenComplete((value, error) -> executor.execute(() -> resume(value, error, continuation)));
+    }
+
+    private void resume(Object value, Throwable error, Consumer<Object> continuation) {
+        suspended = false;
+
+        try {
+            if (error != null) {
+                finish();
+                if (error instanceof CompletionException) throw (CompletionException) error;
+                throw new CompletionException(error);
+            }
+
+            continuation.accept(value);
+            proceed();
+        } catch (final RuntimeException | Error exception) {
+            finish();
+            if (completion == null) throw exception;
+
+            completion.completeExceptionally(exception);
+            return;
+        }
+
+        afterLoop();
+    }
+
+    /**
+     * Schedules the resumption of this execution if it was suspended, or completes it otherwise.
+     */
+    private void afterLoop() {
+        if (suspended) {
+            scheduleResumption();
+            return;
+        }
+
+        if (measuredPhases != null) recordPhases();
+        if (completion != null) completion.complete(null);
+    }
+
+    private void recordPhases() {
+        for (int i = 0; i < measuredPhases.length; i++) {
+            if (phaseNanos[i] != -1) metrics.recordPhase(measuredPhases[i], phaseNanos[i]);
+        }
+
+        measuredPhases = null;
+    }
+
     private void loop() {
         do {
             final int pointer = index;
-            if (pointer == -1) break;
+            if (pointer == -1 || suspended) break;
 
-            final List<PipelineInterceptor<S>> safeInterceptors = interceptors;
-            if (pointer >= safeInterceptors.size()) {
+            final PipelineInterceptor<S>[] safeInterceptors = interceptors;
+            if (pointer >= safeInterceptors.length) {
                 finish();
                 break;
             }
 
-            final PipelineInterceptor<S> nextInterceptor = safeInterceptors.get(pointer);
+            final PipelineInterceptor<S> nextInterceptor = safeInterceptors[pointer];
             index = pointer + 1;
 
-            nextInterceptor.intercept(this, subject);
+            if (metrics == null) nextInterceptor.intercept(this, subject);
+            else interceptMeasured(nextInterceptor, pointer);
         } while (true);
     }
 
+    private void interceptMeasured(PipelineInterceptor<S> interceptor, int pointer) {
+        final long enclosingNestedNanos = nestedNanos;
+        nestedNanos = 0;
+
+        final long start = System.nanoTime();
+        try {
+            interceptor.intercept(this, subject);
+        } finally {
+            final long elapsed = System.nanoTime() - start;
+            final long exclusive = elapsed - nestedNanos;
+            metrics.recordInterceptor(interceptor, exclusive);
+            nestedNanos = enclosingNestedNanos + elapsed;
+
+            final long[] phaseNanos = this.phaseNanos;
+            if (phaseNanos != null) {
+                final int phaseIndex = interceptorPhaseIndexes[pointer];
+                phaseNanos[phaseIndex] = Math.max(phaseNanos[phaseIndex], 0) + exclusive;
+            }
+        }
+    }
+
     public void proceed() {
-        if (index >= interceptors.size()) {
+        if (index >= interceptors.length) {
             finish();
             return;
         }
@@ -57,5 +284,25 @@ public class PipelineContext<S> {
         index = 0;
         subject = initial;
         proceed();
+        afterLoop();
+    }
+
+    /**
+     * Executes this pipeline context tracking its completion across suspensions.
+     *
+     * @param initial The pipeline subject.
+     * @return A future completed when the execution finishes.
+     */
+    CompletableFuture<Void> executeAsync(S initial) {
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        completion = result;
+        try {
+            execute(initial);
+        } catch (final RuntimeException | Error exception) {
+            finish();
+            result.completeExceptionally(exception);
+        }
+
+        return result;
     }
 }
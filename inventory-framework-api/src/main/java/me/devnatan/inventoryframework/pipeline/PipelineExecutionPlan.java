@@ -0,0 +1,184 @@
+package me.devnatan.inventoryframework.pipeline;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Immutable sequence of interceptors compiled from a {@link Pipeline}.
+ * <p>
+ * Interceptors registered with a subject type are only part of the interceptors resolved for
+ * subjects of that type. Resolved interceptors are cached by subject class so that type checks
+ * happens once per subject class instead of once per interceptor on every execution. The cache
+ * is safe to be read and populated concurrently by executions from different threads.
+ *
+ * @param <S> Pipeline subject type.
+ */
+final class PipelineExecutionPlan<S> {
+
+    private static final PipelineInterceptor<?>[] EMPTY_INTERCEPTORS = new PipelineInterceptor<?>[0];
+
+    private static final PipelineExecutionPlan<?> EMPTY = new PipelineExecutionPlan<>();
+
+    private final PipelineInterceptor<S>[] interceptors;
+    private final Class<?>[] subjectTypes;
+    private final boolean typed;
+    private final Map<Class<?>, PipelineInterceptor<S>[]> dispatchTable;
+    private final PipelineInterceptor<S>[] nullSubjectInterceptors;
+
+    /**
+     * Distinct phases of the interceptors of this plan in execution order, and the index in it of
+     * the phase of each interceptor. Only present on plans of all phases of a pipeline.
+     */
+    private final PipelinePhase[] phases;
+
+    private final int[] phaseIndexes;
+    private volatile Map<Class<?>, int[]> phaseIndexesTable;
+
+    @SuppressWarnings("unchecked")
+    private PipelineExecutionPlan() {
+        this.interceptors = (PipelineInterceptor<S>[]) EMPTY_INTERCEPTORS;
+        this.subjectTypes = new Class<?>[0];
+        this.typed = false;
+        this.dispatchTable = null;
+        this.nullSubjectInterceptors = interceptors;
+        this.phases = null;
+        this.phaseIndexes = null;
+    }
+
+    PipelineExecutionPlan(@NotNull List<PipelineInterceptor<S>> interceptors, @NotNull List<Class<?>> subjectTypes) {
+        this(interceptors, subjectTypes, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    PipelineExecutionPlan(
+            @NotNull List<PipelineInterceptor<S>> interceptors,
+            @NotNull List<Class<?>> subjectTypes,
+            @Nullable List<PipelinePhase> interceptorPhases) {
+        this.interceptors = interceptors.toArray((PipelineInterceptor<S>[]) new PipelineInterceptor<?>[0]);
+        this.subjectTypes = subjectTypes.toArray(new Class<?>[0]);
+
+        if (interceptorPhases == null) {
+            this.phases = null;
+            this.phaseIndexes = null;
+        } else {
+            final List<PipelinePhase> distinctPhases = new ArrayList<>();
+            this.phaseIndexes = new int[interceptorPhases.size()];
+            for (int i = 0; i < phaseIndexes.length; i++) {
+                final PipelinePhase phase = interceptorPhases.get(i);
+                if (distinctPhases.isEmpty() || distinctPhases.get(distinctPhases.size() - 1) != phase)
+                    distinctPhases.add(phase);
+
+                phaseIndexes[i] = distinctPhases.size() - 1;
+            }
+
+            this.phases = distinctPhases.toArray(new PipelinePhase[0]);
+        }
+
+        boolean typed = false;
+        for (final Class<?> subjectType : this.subjectTypes) {
+            if (subjectType == null) continue;
+            typed = true;
+            break;
+        }
+
+        this.typed = typed;
+        this.dispatchTable = typed ? new ConcurrentHashMap<>() : null;
+        this.nullSubjectInterceptors = typed ? resolve(null) : this.interceptors;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <S> PipelineExecutionPlan<S> empty() {
+        return (PipelineExecutionPlan<S>) EMPTY;
+    }
+
+    /**
+     * Resolves the interceptors that must be called for the given subject.
+     *
+     * @param subject The pipeline subject.
+     * @return Interceptors applicable to the subject in execution order.
+     */
+    PipelineInterceptor<S>[] interceptorsFor(@Nullable Object subject) {
+        if (!typed) return interceptors;
+        if (subject == null) return nullSubjectInterceptors;
+
+        final Class<?> subjectClass = subject.getClass();
+        PipelineInterceptor<S>[] resolved = dispatchTable.get(subjectClass);
+        if (resolved == null) {
+            // resolution is idempotent so a concurrent resolution for the same class is harmless
+            resolved = resolve(subjectClass);
+            dispatchTable.put(subjectClass, resolved);
+        }
+
+        return resolved;
+    }
+
+    /**
+     * Phases of the interceptors of this plan in execution order.
+     *
+     * @return The phases or {@code null} if this is the plan of a single phase.
+     */
+    @Nullable
+    PipelinePhase[] getPhases() {
+        return phases;
+    }
+
+    /**
+     * Resolves the index in {@link #getPhases()} of the phase of each one of the interceptors
+     * {@link #interceptorsFor(Object) resolved} for the given subject.
+     *
+     * @param subject The pipeline subject.
+     * @return Phase index of each interceptor applicable to the subject, in execution order.
+     * @throws IllegalStateException If this is the plan of a single phase.
+     */
+    int[] phaseIndexesFor(@Nullable Object subject) {
+        if (phaseIndexes == null) throw new IllegalStateException("Plan of a single phase");
+        if (!typed) return phaseIndexes;
+
+        final Class<?> subjectClass = subject == null ? null : subject.getClass();
+        Map<Class<?>, int[]> table = phaseIndexesTable;
+        if (table == null) phaseIndexesTable = table = new ConcurrentHashMap<>();
+
+        // null keys are not allowed so subjects without a class are resolved under the plan class
+        final Class<?> key = subjectClass == null ? PipelineExecutionPlan.class : subjectClass;
+        int[] resolved = table.get(key);
+        if (resolved == null) {
+            int count = 0;
+            resolved = new int[interceptors.length];
+            for (int i = 0; i < interceptors.length; i++) {
+                if (matches(i, subjectClass)) resolved[count++] = phaseIndexes[i];
+            }
+
+            resolved = Arrays.copyOf(resolved, count);
+            table.put(key, resolved);
+        }
+
+        return resolved;
+    }
+
+    private boolean matches(int index, @Nullable Class<?> subjectClass) {
+        final Class<?> subjectType = subjectTypes[index];
+        return subjectType == null || (subjectClass != null && subjectType.isAssignableFrom(subjectClass));
+    }
+
+    @SuppressWarnings("unchecked")
+    private PipelineInterceptor<S>[] resolve(@Nullable Class<?> subjectClass) {
+        int count = 0;
+        final PipelineInterceptor<S>[] matches =
+                (PipelineInterceptor<S>[]) new PipelineInterceptor<?>[interceptors.length];
+        for (int i = 0; i < interceptors.length; i++) {
+            if (matches(i, subjectClass)) matches[count++] = interceptors[i];
+        }
+
+        if (count == 0) return (PipelineInterceptor<S>[]) EMPTY_INTERCEPTORS;
+        if (count == matches.length) return matches;
+
+        final PipelineInterceptor<S>[] result = (PipelineInterceptor<S>[]) new PipelineInterceptor<?>[count];
+        System.arraycopy(matches, 0, result, 0, count);
+        return result;
+    }
+}
@@ -0,0 +1,29 @@
+package me.devnatan.inventoryframework.pipeline;
+
+/**
+ * Interceptor that decides whether a pipeline execution can continue.
+ * <p>
+ * Guards {@link Pipeline#guard(PipelinePhase, Class, PipelineGuard) registered} as such run before
+ * every other interceptor of the phase, when a guard rejects the subject the whole execution is
+ * {@link PipelineContext#finish() finished}, so no other interceptor of the phase nor of the
+ * phases after it is called.
+ *
+ * @param <S> Pipeline subject type.
+ */
+@FunctionalInterface
+public interface PipelineGuard<S> extends PipelineInterceptor<S> {
+
+    /**
+     * Checks if the execution can continue for the given subject.
+     *
+     * @param pipeline The pipeline execution context.
+     * @param subject  The pipeline subject.
+     * @return {@code true} to continue the execution or {@code false} to finish the whole execution.
+     */
+    boolean allow(PipelineContext<S> pipeline, S subject);
+
+    @Override
+    default void intercept(PipelineContext<S> pipeline, S subject) {
+        if (!allow(pipeline, subject)) pipeline.finish();
+    }
+}
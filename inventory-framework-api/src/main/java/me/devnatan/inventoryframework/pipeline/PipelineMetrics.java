@@ -0,0 +1,112 @@
+package me.devnatan.inventoryframework.pipeline;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnmodifiableView;
+
+/**
+ * Call counts and latencies collected from the executions of a {@link Pipeline}.
+ * <p>
+ * Interceptors latencies are exclusive, time spent in interceptors called through
+ * {@link PipelineContext#proceed()} is attributed to them and not to the interceptor that proceeded.
+ * Latencies of nested pipelines executed by an interceptor are attributed to that interceptor.
+ * <p>
+ * Phases latencies of executions of a single phase are the latency of the whole execution, while
+ * on executions of all phases they're the time spent in the interceptors of each phase.
+ *
+ * @see Pipeline#enableMetrics()
+ */
+public final class PipelineMetrics {
+
+    private final LatencyHistogram executions = new LatencyHistogram();
+    private final Map<PipelinePhase, LatencyHistogram> phases = new ConcurrentHashMap<>();
+    private final Map<Class<?>, LatencyHistogram> interceptors = new ConcurrentHashMap<>();
+
+    PipelineMetrics() {}
+
+    void recordExecution(long nanos) {
+        executions.record(nanos);
+    }
+
+    void recordPhase(@NotNull PipelinePhase phase, long nanos) {
+        phases.computeIfAbsent(phase, $ -> new LatencyHistogram()).record(nanos);
+    }
+
+    void recordInterceptor(@NotNull PipelineInterceptor<?> interceptor, long nanos) {
+        interceptors.computeIfAbsent(interceptor.getClass(), $ -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * Creates a point-in-time copy of these metrics.
+     *
+     * @return A snapshot of these metrics.
+     */
+    public @NotNull Snapshot snapshot() {
+        final Map<PipelinePhase, LatencyHistogram.Snapshot> phasesCopy = new HashMap<>();
+        for (final Map.Entry<PipelinePhase, LatencyHistogram> entry : phases.entrySet())
+            phasesCopy.put(entry.getKey(), entry.getValue().snapshot());
+
+        final Map<Class<?>, LatencyHistogram.Snapshot> interceptorsCopy = new HashMap<>();
+        for (final Map.Entry<Class<?>, LatencyHistogram> entry : interceptors.entrySet())
+            interceptorsCopy.put(entry.getKey(), entry.getValue().snapshot());
+
+        return new Snapshot(executions.snapshot(), phasesCopy, interceptorsCopy);
+    }
+
+    /**
+     * Immutable copy of {@link PipelineMetrics}.
+     */
+    public static final class Snapshot {
+
+        private final LatencyHistogram.Snapshot executions;
+        private final Map<PipelinePhase, LatencyHistogram.Snapshot> phases;
+        private final Map<Class<?>, LatencyHistogram.Snapshot> interceptors;
+
+        Snapshot(
+                LatencyHistogram.Snapshot executions,
+                Map<PipelinePhase, LatencyHistogram.Snapshot> phases,
+                Map<Class<?>, LatencyHistogram.Snapshot> interceptors) {
+            this.executions = executions;
+            this.phases = Collections.unmodifiableMap(phases);
+            this.interceptors = Collections.unmodifiableMap(interceptors);
+        }
+
+        /**
+         * Latencies of executions of the whole pipeline, that is, executions not bound to a single phase.
+         *
+         * @return Latencies of whole pipeline executions.
+         */
+        public @NotNull LatencyHistogram.Snapshot getExecutions() {
+            return executions;
+        }
+
+        /**
+         * Latencies of executions of a single phase by phase.
+         *
+         * @return Latencies of executions of each executed phase.
+         */
+        public @NotNull @UnmodifiableView Map<PipelinePhase, LatencyHistogram.Snapshot> getPhases() {
+            return phases;
+        }
+
+        /**
+         * Latencies of interceptors by interceptor class.
+         *
+         * @return Latencies of each called interceptor class.
+         */
+        public @NotNull @UnmodifiableView Map<Class<?>, LatencyHistogram.Snapshot> getInterceptors() {
+            return interceptors;
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot{" + "executions="
+                    + executions + ", phases="
+                    + phases + ", interceptors="
+                    + interceptors + '}';
+        }
+    }
+}
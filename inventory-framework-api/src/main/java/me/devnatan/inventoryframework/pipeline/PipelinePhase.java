@@ -1,17 +1,27 @@
 package me.devnatan.inventoryframework.pipeline;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.ApiStatus;
+
 /**
  * Phases are groups of interceptors that can be ordered topologically, defining relationships
  * between them.
+ * <p>
+ * Every phase instance is assigned an unique, stable, ordinal on creation that pipelines use to
+ * index their phases, phases are compared by identity.
  *
  * @see Pipeline
  */
 public final class PipelinePhase {
 
+    private static final AtomicInteger NEXT_ORDINAL = new AtomicInteger();
+
     private final String name;
+    private final int ordinal;
 
     public PipelinePhase(String name) {
         this.name = name;
+        this.ordinal = NEXT_ORDINAL.getAndIncrement();
     }
 
     /**
@@ -23,6 +33,19 @@ public final class PipelinePhase {
         return name;
     }
 
+    /**
+     * <b><i> This is an internal inventory-framework API that should not be used from outside of
+     * this library. No compatibility guarantees are provided. </i></b>
+     * <p>
+     * Unique ordinal of this phase, ordinals are assigned sequentially in creation order.
+     *
+     * @return The ordinal of this pipeline phase.
+     */
+    @ApiStatus.Internal
+    public int getOrdinal() {
+        return ordinal;
+    }
+
     @Override
     public String toString() {
         return "PipelinePhase{" + "name='" + name + '\'' + '}';
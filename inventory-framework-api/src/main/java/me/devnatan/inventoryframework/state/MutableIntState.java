@@ -19,4 +19,35 @@ public interface MutableIntState extends MutableState<Integer> {
      * @return The updated value.
      */
     int decrement(@NotNull StateValueHost host);
+
+    /**
+     * Returns the current state value without boxing it.
+     * <p>
+     * Unlike {@link #get(StateValueHost)}, state value watchers are not notified about this read.
+     *
+     * @param host The state host.
+     * @return The current state value.
+     */
+    int getAsInt(@NotNull StateValueHost host);
+
+    /**
+     * Atomically adds the given value to the current state value.
+     *
+     * @param delta The value to add.
+     * @param host  The state host that'll catch the state change.
+     * @return The updated value.
+     */
+    int addAndGet(int delta, @NotNull StateValueHost host);
+
+    /**
+     * Atomically sets the state value to the given updated value if the current value is equal
+     * to the expected value.
+     *
+     * @param expected The expected value.
+     * @param update   The new value.
+     * @param host     The state host that'll catch the state change.
+     * @return {@code true} if successful, {@code false} if the current value was not equal to
+     * the expected value.
+     */
+    boolean compareAndSet(int expected, int update, @NotNull StateValueHost host);
 }
@@ -0,0 +1,53 @@
+package me.devnatan.inventoryframework.state;
+
+import org.jetbrains.annotations.NotNull;
+
+public interface MutableLongState extends MutableState<Long> {
+
+    /**
+     * Increments the current state value by {@code 1}.
+     *
+     * @param host The state host that'll catch the state change.
+     * @return The updated value.
+     */
+    long increment(@NotNull StateValueHost host);
+
+    /**
+     * Decrements the current state value by {@code 1}.
+     *
+     * @param host The state host that'll catch the state change.
+     * @return The updated value.
+     */
+    long decrement(@NotNull StateValueHost host);
+
+    /**
+     * Returns the current state value without boxing it.
+     * <p>
+     * Unlike {@link #get(StateValueHost)}, state value watchers are not notified about this read.
+     *
+     * @param host The state host.
+     * @return The current state value.
+     */
+    long getAsLong(@NotNull StateValueHost host);
+
+    /**
+     * Atomically adds the given value to the current state value.
+     *
+     * @param delta The value to add.
+     * @param host  The state host that'll catch the state change.
+     * @return The updated value.
+     */
+    long addAndGet(long delta, @NotNull StateValueHost host);
+
+    /**
+     * Atomically sets the state value to the given updated value if the current value is equal
+     * to the expected value.
+     *
+     * @param expected The expected value.
+     * @param update   The new value.
+     * @param host     The state host that'll catch the state change.
+     * @return {@code true} if successful, {@code false} if the current value was not equal to
+     * the expected value.
+     */
+    boolean compareAndSet(long expected, long update, @NotNull StateValueHost host);
+}
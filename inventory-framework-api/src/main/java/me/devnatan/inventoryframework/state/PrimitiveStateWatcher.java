@@ -0,0 +1,25 @@
+package me.devnatan.inventoryframework.state;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * State watcher that is notified about changes of {@link MutableIntState int} and
+ * {@link MutableLongState long} states values without boxing them.
+ * <p>
+ * Changes of other states are still notified through {@link #stateValueSet}.
+ */
+public interface PrimitiveStateWatcher extends StateWatcher {
+
+    /**
+     * Called when the value of a primitive state on a host is set.
+     * <p>
+     * Values of {@link MutableIntState int states} are widened to {@code long}.
+     *
+     * @param host        The host.
+     * @param value       The internal value.
+     * @param rawOldValue The previous state value.
+     * @param rawNewValue The new state value.
+     */
+    void primitiveStateValueSet(
+            @NotNull StateValueHost host, @NotNull StateValue value, long rawOldValue, long rawNewValue);
+}
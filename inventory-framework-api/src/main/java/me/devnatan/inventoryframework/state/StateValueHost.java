@@ -67,6 +67,46 @@ public interface StateValueHost {
     @ApiStatus.Internal
     void updateState(long id, Object value);
 
+    /**
+     * Registers a watcher to be notified about changes of a state in this value host.
+     *
+     * <p><b><i>This is an internal inventory-framework API that should not be used from outside of
+     * this library. No compatibility guarantees are provided.</i></b>
+     *
+     * @param id       The state id.
+     * @param listener The watcher.
+     * @return The registration of the watcher, used to unregister it.
+     */
+    @ApiStatus.Internal
+    StateWatcherRegistration watchState(long id, StateWatcher listener);
+
+    /**
+     * Notifies the watchers of a primitive state that its value was changed in place.
+     *
+     * <p><b><i>This is an internal inventory-framework API that should not be used from outside of
+     * this library. No compatibility guarantees are provided.</i></b>
+     *
+     * @param value    The internal value that was changed.
+     * @param oldValue The previous value.
+     * @param newValue The new value.
+     * @see PrimitiveStateWatcher
+     */
+    @ApiStatus.Internal
+    void primitiveStateUpdated(@NotNull StateValue value, long oldValue, long newValue);
+
+    /**
+     * Version of the state values in this host, incremented every time a state value is updated or
+     * replaced through {@link #initializeState(long, StateValue)}. Values initialized on first read
+     * don't change the version since they're the same values that would be read before.
+     * <p>
+     * Nothing changed in this host between two reads that return the same version, which makes
+     * it a cheap way to check whether anything depending on its states must be updated.
+     *
+     * <p><b><i>This is an internal inventory-framework API that should not be used from outside of
+     * this library. No compatibility guarantees are provided.</i></b>
+     *
+     * @return The current state version.
+     */
     @ApiStatus.Internal
-    void watchState(long id, StateWatcher listener);
+    long getStateVersion();
 }
@@ -0,0 +1,25 @@
+package me.devnatan.inventoryframework.state;
+
+/**
+ * Registration of a {@link StateWatcher} in a {@link StateValueHost}, returned by
+ * {@link StateValueHost#watchState(long, StateWatcher)}.
+ * <p>
+ * Each registration is independent, a watcher registered twice for the same state is notified
+ * twice and each registration must be unregistered on its own.
+ */
+public interface StateWatcherRegistration {
+
+    /**
+     * Stops the watcher of this registration from being notified about changes of the state.
+     * <p>
+     * Unregistering an already unregistered watcher has no effect.
+     */
+    void unregister();
+
+    /**
+     * If the watcher of this registration is still notified about changes of the state.
+     *
+     * @return {@code true} if this registration was not unregistered or {@code false} otherwise.
+     */
+    boolean isRegistered();
+}
@@ -0,0 +1,66 @@
+package me.devnatan.inventoryframework.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class PaginationTest {
+
+    private static final List<Integer> SOURCE = Arrays.asList(1, 2, 3, 4, 5, 6, 7);
+
+    @Test
+    public void splitSourceForPage() {
+        assertEquals(Arrays.asList(1, 2, 3), Pagination.splitSourceForPage(0, 3, 3, SOURCE));
+        assertEquals(Arrays.asList(4, 5, 6), Pagination.splitSourceForPage(1, 3, 3, SOURCE));
+        assertEquals(Collections.singletonList(7), Pagination.splitSourceForPage(2, 3, 3, SOURCE));
+    }
+
+    @Test
+    public void splitRandomAccessSourceIsView() {
+        final List<Integer> source = new ArrayList<>(SOURCE);
+        final List<?> page = Pagination.splitSourceForPage(1, 3, 3, source);
+
+        source.set(3, 40);
+        assertEquals(Arrays.asList(40, 5, 6), page);
+        assertThrows(UnsupportedOperationException.class, page::clear);
+    }
+
+    @Test
+    public void splitSequentialSourceIsCopy() {
+        final List<Integer> source = new LinkedList<>(SOURCE);
+        final List<?> page = Pagination.splitSourceForPage(1, 3, 3, source);
+
+        source.set(3, 40);
+        assertEquals(Arrays.asList(4, 5, 6), page);
+    }
+
+    @Test
+    public void splitSourceSmallerThanPage() {
+        final List<Integer> source = new ArrayList<>(SOURCE);
+        final List<?> page = Pagination.splitSourceForPage(0, 10, 1, source);
+
+        assertEquals(SOURCE, page);
+        assertThrows(UnsupportedOperationException.class, page::clear);
+    }
+
+    @Test
+    public void splitEmptySource() {
+        assertTrue(Pagination.splitSourceForPage(0, 3, 0, Collections.emptyList()).isEmpty());
+        assertTrue(Pagination.splitSourceForPage(5, 3, 0, Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void splitSourceForPageOutOfRange() {
+        assertThrows(IndexOutOfBoundsException.class, () -> Pagination.splitSourceForPage(-1, 3, 3, SOURCE));
+        assertThrows(IndexOutOfBoundsException.class, () -> Pagination.splitSourceForPage(4, 3, 3, SOURCE));
+        assertTrue(Pagination.splitSourceForPage(3, 3, 3, SOURCE).isEmpty());
+        assertTrue(Pagination.splitSourceForPage(10, 3, 0, SOURCE).isEmpty());
+    }
+}
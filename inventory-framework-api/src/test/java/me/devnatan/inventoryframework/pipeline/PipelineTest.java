@@ -2,6 +2,7 @@ package me.devnatan.inventoryframework.pipeline;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -9,7 +10,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 public class PipelineTest {
@@ -198,6 +202,240 @@ public class PipelineTest {
         checkPipelineOrder(after, before, pipeline);
     }
 
+    @Test
+    public void interceptorRegisteredAfterExecution() {
+        List<String> events = new ArrayList<>();
+        Pipeline<String> pipeline = new Pipeline<>(pipelinePhase);
+        pipeline.intercept(pipelinePhase, ($, subject) -> events.add("intercept1 " + subject));
+        pipeline.execute("first");
+
+        pipeline.intercept(pipelinePhase, ($, subject) -> events.add("intercept2 " + subject));
+        pipeline.execute("second");
+
+        assertEquals(Arrays.asList("intercept1 first", "intercept1 second", "intercept2 second"), events);
+    }
+
+    @Test
+    public void interceptorRemovedAfterExecution() {
+        List<String> events = new ArrayList<>();
+        Pipeline<String> pipeline = new Pipeline<>(pipelinePhase);
+        PipelineInterceptor<String> interceptor = ($, subject) -> events.add("intercept " + subject);
+        pipeline.intercept(pipelinePhase, interceptor);
+        pipeline.execute(pipelinePhase, "first");
+
+        pipeline.removeInterceptor(pipelinePhase, interceptor);
+        pipeline.execute(pipelinePhase, "second");
+
+        assertEquals(Collections.singletonList("intercept first"), events);
+    }
+
+    @Test
+    public void phaseInsertedAfterExecution() {
+        List<String> events = new ArrayList<>();
+        PipelinePhase before = new PipelinePhase("before");
+        Pipeline<String> pipeline = new Pipeline<>(pipelinePhase);
+        pipeline.intercept(pipelinePhase, ($, subject) -> events.add("intercept " + subject));
+        pipeline.execute("first");
+
+        pipeline.insertPhaseBefore(pipelinePhase, before);
+        pipeline.intercept(before, ($, subject) -> events.add("before " + subject));
+        pipeline.execute("second");
+
+        assertEquals(Arrays.asList("intercept first", "before second", "intercept second"), events);
+    }
+
+    @Test
+    public void typedInterceptorSkippedForOtherSubjects() {
+        List<String> events = new ArrayList<>();
+        Pipeline<Object> pipeline = new Pipeline<>(pipelinePhase);
+        pipeline.intercept(pipelinePhase, ($, subject) -> events.add("any " + subject));
+        pipeline.intercept(pipelinePhase, String.class, ($, subject) -> events.add("string " + subject));
+        pipeline.intercept(pipelinePhase, Number.class, ($, subject) -> events.add("number " + subject));
+
+        pipeline.execute("some");
+        pipeline.execute(pipelinePhase, 1);
+        pipeline.execute(null);
+
+        assertEquals(Arrays.asList("any some", "string some", "any 1", "number 1", "any null"), events);
+    }
+
+    @Test
+    public void typedInterceptorRemoved() {
+        List<String> events = new ArrayList<>();
+        Pipeline<Object> pipeline = new Pipeline<>(pipelinePhase);
+        PipelineInterceptor<String> interceptor = ($, subject) -> events.add("string " + subject);
+        pipeline.intercept(pipelinePhase, String.class, interceptor);
+        pipeline.execute("first");
+
+        pipeline.removeInterceptor(interceptor);
+        pipeline.execute("second");
+
+        assertEquals(Collections.singletonList("string first"), events);
+    }
+
+    @Test
+    public void metricsDisabledByDefault() {
+        Pipeline<String> pipeline = new Pipeline<>(pipelinePhase);
+        pipeline.intercept(pipelinePhase, ($, $$) -> {});
+        pipeline.execute("some");
+
+        assertNull(pipeline.getMetrics());
+    }
+
+    @Test
+    public void metricsRecordPhasesAndInterceptors() {
+        Pipeline<String> pipeline = new Pipeline<>(pipelinePhase);
+        PipelineInterceptor<String> interceptor = (context, $) -> context.proceed();
+        pipeline.intercept(pipelinePhase, interceptor);
+        pipeline.enableMetrics();
+
+        pipeline.execute("some");
+        pipeline.execute(pipelinePhase, "some");
+        pipeline.execute(pipelinePhase, "some");
+
+        PipelineMetrics.Snapshot snapshot = pipeline.getMetrics().snapshot();
+        assertEquals(1, snapshot.getExecutions().getCount());
+        assertEquals(3, snapshot.getPhases().get(pipelinePhase).getCount());
+        assertEquals(3, snapshot.getInterceptors().get(interceptor.getClass()).getCount());
+
+        pipeline.disableMetrics();
+        assertNull(pipeline.getMetrics());
+    }
+
+    @Test
+    public void metricsRecordAsyncExecutionsOnCompletion() {
+        CompletableFuture<Void> job = new CompletableFuture<>();
+        Pipeline<String> pipeline = new Pipeline<>(pipelinePhase);
+        pipeline.intercept(pipelinePhase, (context, $) -> context.suspendUntil(job));
+        pipeline.enableMetrics();
+
+        CompletableFuture<Void> execution = pipeline.executeAsync("some");
+        CompletableFuture<Void> phaseExecution = pipeline.executeAsync(pipelinePhase, "some");
+        assertEquals(0, pipeline.getMetrics().snapshot().getExecutions().getCount());
+        assertNull(pipeline.getMetrics().snapshot().getPhases().get(pipelinePhase));
+
+        job.complete(null);
+        assertTrue(execution.isDone());
+        assertTrue(phaseExecution.isDone());
+
+        PipelineMetrics.Snapshot snapshot = pipeline.getMetrics().snapshot();
+        assertEquals(1, snapshot.getExecutions().getCount());
+        assertEquals(2, snapshot.getPhases().get(pipelinePhase).getCount());
+    }
+
+    @Test
+    public void metricsRecordEachPhaseOfFullExecutions() {
+        PipelinePhase first = new PipelinePhase("first");
+        PipelinePhase second = new PipelinePhase("second");
+        PipelinePhase skipped = new PipelinePhase("skipped");
+        Pipeline<Object> pipeline = new Pipeline<>(first, second, skipped);
+        pipeline.intercept(first, ($, $$) -> {});
+        pipeline.intercept(first, (context, $) -> context.proceed());
+        pipeline.intercept(second, ($, $$) -> {});
+        pipeline.intercept(skipped, Integer.class, ($, $$) -> {});
+        pipeline.enableMetrics();
+
+        pipeline.execute("some");
+        pipeline.execute("other");
+
+        Map<PipelinePhase, LatencyHistogram.Snapshot> phases = pipeline.getMetrics().snapshot().getPhases();
+        assertEquals(2, phases.get(first).getCount());
+        assertEquals(2, phases.get(second).getCount());
+        assertNull(phases.get(skipped));
+
+        pipeline.execute(1);
+        assertEquals(1, pipeline.getMetrics().snapshot().getPhases().get(skipped).getCount());
+    }
+
+    @Test
+    public void latencyHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) histogram.record(100);
+        histogram.record(1_000_000);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(100, snapshot.getCount());
+        assertEquals(1_000_000, snapshot.getMaxNanos());
+        assertEquals(128, snapshot.getPercentileNanos(0.5));
+        assertEquals(1_000_000, snapshot.getPercentileNanos(1.0));
+    }
+
+    @Test
+    public void concurrentRegistration() throws InterruptedException {
+        Pipeline<String> pipeline = new Pipeline<>(pipelinePhase);
+        AtomicInteger calls = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < 250; j++) {
+                    pipeline.intercept(pipelinePhase, ($, $$) -> calls.incrementAndGet());
+                    pipeline.execute("some");
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) thread.join();
+
+        calls.set(0);
+        pipeline.execute("some");
+        assertEquals(1000, calls.get());
+    }
+
+    @Test
+    public void suspendedExecutionResumesOnCompletion() {
+        List<String> events = new ArrayList<>();
+        CompletableFuture<String> job = new CompletableFuture<>();
+        Pipeline<String> pipeline = new Pipeline<>(pipelinePhase);
+        pipeline.intercept(pipelinePhase, (context, subject) -> {
+            events.add("intercept1 " + subject);
+            context.suspendUntil(job, result -> events.add("resumed " + result));
+        });
+        pipeline.intercept(pipelinePhase, ($, subject) -> events.add("intercept2 " + subject));
+
+        CompletableFuture<Void> execution = pipeline.executeAsync(pipelinePhase, "some");
+        assertEquals(Collections.singletonList("intercept1 some"), events);
+        assertFalse(execution.isDone());
+
+        job.complete("result");
+        assertTrue(execution.isDone());
+        assertEquals(Arrays.asList("intercept1 some", "resumed result", "intercept2 some"), events);
+    }
+
+    @Test
+    public void suspendedExecutionResumesOnResumeExecutor() {
+        List<Runnable> scheduled = new ArrayList<>();
+        AtomicBoolean called = new AtomicBoolean();
+        CompletableFuture<Void> job = new CompletableFuture<>();
+        Pipeline<String> pipeline = new Pipeline<>(pipelinePhase);
+        pipeline.setResumeExecutor(scheduled::add);
+        pipeline.intercept(pipelinePhase, (context, $) -> context.suspendUntil(job));
+        pipeline.intercept(pipelinePhase, ($, $$) -> called.set(true));
+
+        pipeline.execute("some");
+        job.complete(null);
+        assertFalse(called.get());
+        assertEquals(1, scheduled.size());
+
+        scheduled.get(0).run();
+        assertTrue(called.get());
+    }
+
+    @Test
+    public void suspendedExecutionFailure() {
+        AtomicBoolean called = new AtomicBoolean();
+        CompletableFuture<Void> job = new CompletableFuture<>();
+        Pipeline<String> pipeline = new Pipeline<>(pipelinePhase);
+        pipeline.intercept(pipelinePhase, (context, $) -> context.suspendUntil(job));
+        pipeline.intercept(pipelinePhase, ($, $$) -> called.set(true));
+
+        CompletableFuture<Void> execution = pipeline.executeAsync("some");
+        job.completeExceptionally(new UnsupportedOperationException());
+
+        assertTrue(execution.isCompletedExceptionally());
+        assertFalse(called.get());
+    }
+
     private void checkPipelineOrder(PipelinePhase after, PipelinePhase before, Pipeline<String> pipeline) {
         AtomicBoolean value = new AtomicBoolean();
 
@@ -214,4 +452,83 @@ public class PipelineTest {
         pipeline.execute("some");
         assertTrue(value.get());
     }
+
+    @Test
+    public void frozenPipelineCopy() {
+        List<String> events = new ArrayList<>();
+        Pipeline<String> shared = new Pipeline<>(pipelinePhase);
+        shared.intercept(pipelinePhase, ($, subject) -> events.add("shared " + subject));
+        shared.freeze();
+
+        assertTrue(shared.isFrozen());
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> shared.intercept(pipelinePhase, ($, subject) -> events.add("other " + subject)));
+
+        Pipeline<String> copy = shared.copy();
+        assertFalse(copy.isFrozen());
+        copy.intercept(pipelinePhase, ($, subject) -> events.add("own " + subject));
+
+        shared.execute("a");
+        copy.execute("b");
+        assertEquals(Arrays.asList("shared a", "shared b", "own b"), events);
+    }
+
+    @Test
+    public void batchExecution() {
+        List<String> events = new ArrayList<>();
+        Pipeline<String> pipeline = new Pipeline<>(pipelinePhase);
+        pipeline.intercept(pipelinePhase, (context, subject) -> {
+            events.add(subject + " of " + context.getBatch().size());
+            if (subject.equals("a")) context.finish();
+        });
+        pipeline.intercept(pipelinePhase, ($, subject) -> events.add("next " + subject));
+
+        pipeline.executeAll(pipelinePhase, Arrays.asList("a", "b"));
+        assertEquals(Arrays.asList("a of 2", "b of 2", "next b"), events);
+
+        Pipeline<String> single = new Pipeline<>(pipelinePhase);
+        single.intercept(pipelinePhase, (context, subject) -> assertNull(context.getBatch()));
+        single.execute(pipelinePhase, "c");
+    }
+
+    @Test
+    public void interceptorsCalledByPriority() {
+        List<String> events = new ArrayList<>();
+        Pipeline<String> pipeline = new Pipeline<>(pipelinePhase);
+        pipeline.intercept(pipelinePhase, ($, subject) -> events.add("default"));
+        pipeline.intercept(pipelinePhase, String.class, -1, ($, subject) -> events.add("low"));
+        pipeline.intercept(pipelinePhase, String.class, 10, ($, subject) -> events.add("high"));
+        pipeline.intercept(pipelinePhase, String.class, 10, ($, subject) -> events.add("high2"));
+        pipeline.intercept(pipelinePhase, ($, subject) -> events.add("default2"));
+
+        pipeline.execute("some");
+        assertEquals(Arrays.asList("high", "high2", "default", "default2", "low"), events);
+    }
+
+    @Test
+    public void guardRejectionSkipsPhase() {
+        List<String> events = new ArrayList<>();
+        Pipeline<String> pipeline = new Pipeline<>(pipelinePhase);
+        pipeline.intercept(pipelinePhase, ($, subject) -> events.add("intercepted " + subject));
+        pipeline.guard(pipelinePhase, String.class, ($, subject) -> !subject.equals("spam"));
+
+        pipeline.execute("spam");
+        pipeline.execute("some");
+        assertEquals(Collections.singletonList("intercepted some"), events);
+    }
+
+    @Test
+    public void guardRejectionFinishesWholeExecution() {
+        PipelinePhase nextPhase = new PipelinePhase("next");
+        List<String> events = new ArrayList<>();
+        Pipeline<String> pipeline = new Pipeline<>(pipelinePhase, nextPhase);
+        pipeline.intercept(pipelinePhase, ($, subject) -> events.add("intercepted " + subject));
+        pipeline.intercept(nextPhase, ($, subject) -> events.add("next " + subject));
+        pipeline.guard(pipelinePhase, String.class, ($, subject) -> !subject.equals("spam"));
+
+        pipeline.execute("spam");
+        pipeline.execute("some");
+        assertEquals(Arrays.asList("intercepted some", "next some"), events);
+    }
 }
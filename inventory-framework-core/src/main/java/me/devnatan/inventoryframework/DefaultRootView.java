@@ -12,6 +12,7 @@ import static me.devnatan.inventoryframework.pipeline.StandardPipelinePhases.OPE
 import static me.devnatan.inventoryframework.pipeline.StandardPipelinePhases.UPDATE;
 
 import java.util.*;
+import java.util.concurrent.Executor;
 import me.devnatan.inventoryframework.context.IFContext;
 import me.devnatan.inventoryframework.internal.ElementFactory;
 import me.devnatan.inventoryframework.internal.Job;
@@ -72,6 +73,22 @@ public abstract class DefaultRootView implements RootView {
         throw new UnsupportedOperationException("Missing nextTick(...) implementation");
     }
 
+    /**
+     * Executor that runs tasks in the platform thread, that is the thread in which the platform
+     * API can be safely used. Tasks submitted from the platform thread run immediately.
+     * <p>
+     * Platforms without a dedicated thread run tasks in the caller thread.
+     * <p>
+     * <b><i> This is an internal inventory-framework API that should not be used from outside of
+     * this library. No compatibility guarantees are provided. </i></b>
+     *
+     * @return The platform thread executor.
+     */
+    @ApiStatus.Internal
+    public @NotNull Executor getPlatformExecutor() {
+        return Runnable::run;
+    }
+
     @Override
     public final Job getScheduledUpdateJob() {
         return scheduledUpdateJob;
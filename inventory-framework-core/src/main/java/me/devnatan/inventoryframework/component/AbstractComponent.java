@@ -25,8 +25,12 @@ public abstract class AbstractComponent implements Component {
     private final Ref<Component> reference;
     private final Set<State<?>> watchingStates;
     private final Predicate<? extends IFContext> displayCondition;
-    private final Pipeline<VirtualView> pipeline =
-            new Pipeline<>(Component.RENDER, Component.UPDATE, Component.CLICK, Component.CLEAR);
+
+    /**
+     * Pipeline owned by this component, only created when it's requested to register interceptors
+     * specific to this component. Until then the handle shared pipeline is used.
+     */
+    private Pipeline<VirtualView> pipeline;
 
     private ComponentHandle handle;
     private boolean isVisible;
@@ -129,12 +133,14 @@ public abstract class AbstractComponent implements Component {
 
     @Override
     public final void setHandle(ComponentHandle handle) {
-        if (this.handle != null) getPipeline().removeInterceptor(this.handle);
-        if (handle != null) {
-            for (final PipelinePhase phase :
-                    new PipelinePhase[] {Component.RENDER, Component.UPDATE, Component.CLEAR, Component.CLICK}) {
-
-                getPipeline().intercept(phase, handle);
+        if (pipeline != null) {
+            if (this.handle != null) pipeline.removeInterceptor(this.handle);
+            if (handle != null) {
+                for (final PipelinePhase phase :
+                        new PipelinePhase[] {Component.RENDER, Component.UPDATE, Component.CLEAR, Component.CLICK}) {
+
+                    pipeline.intercept(phase, handle);
+                }
             }
         }
 
@@ -143,9 +149,24 @@ public abstract class AbstractComponent implements Component {
 
     @Override
     public final @NotNull Pipeline<VirtualView> getPipeline() {
+        if (pipeline == null) {
+            pipeline = handle == null
+                    ? new Pipeline<>(Component.RENDER, Component.UPDATE, Component.CLICK, Component.CLEAR)
+                    : handle.getSharedPipeline().copy();
+        }
+
         return pipeline;
     }
 
+    @Override
+    public final @NotNull Pipeline<VirtualView> getExecutionPipeline() {
+        if (pipeline != null) return pipeline;
+
+        // Without a handle there is no shared pipeline to use, so executions are no-op on its own
+        if (handle == null) return getPipeline();
+        return handle.getSharedPipeline();
+    }
+
     protected final Predicate<? extends IFContext> getDisplayCondition() {
         return displayCondition;
     }
@@ -0,0 +1,121 @@
+package me.devnatan.inventoryframework.component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Bounded least-recently-used cache of the pages loaded by a pagination, keyed by page index.
+ * <p>
+ * Pages are cached as soon as they start to be loaded so a page that is being prefetched is not
+ * loaded again when switched to, pages that fail to load are removed. Thread-safe since pages can
+ * be loaded asynchronously.
+ */
+final class PageCache {
+
+    private final int maxSize;
+    private final long expirationNanos;
+    private final Map<Integer, CachedPage> entries;
+
+    /**
+     * @param maxSize         Maximum number of pages kept in this cache.
+     * @param expirationNanos Time in nanoseconds after which a cached page is loaded again, or
+     *                        {@code 0} if cached pages never expire.
+     */
+    PageCache(int maxSize, long expirationNanos) {
+        this.maxSize = maxSize;
+        this.expirationNanos = expirationNanos;
+        this.entries = new LinkedHashMap<Integer, CachedPage>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, CachedPage> eldest) {
+                return size() > PageCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * The page with the given index if it's cached and not expired.
+     *
+     * @param pageIndex The page index.
+     * @return The loaded or still loading page, or {@code null} if it's not cached.
+     */
+    synchronized @Nullable CompletableFuture<LoadedPage> get(int pageIndex) {
+        final CachedPage entry = entries.get(pageIndex);
+        if (entry == null) return null;
+
+        if (expirationNanos > 0 && System.nanoTime() - entry.createdAt >= expirationNanos) {
+            entries.remove(pageIndex);
+            return null;
+        }
+
+        return entry.page;
+    }
+
+    synchronized boolean contains(int pageIndex) {
+        return get(pageIndex) != null;
+    }
+
+    /**
+     * Caches a page that is being loaded, the page is removed if it fails to load.
+     *
+     * @param pageIndex The page index.
+     * @param page      The loaded or still loading page.
+     */
+    synchronized void put(int pageIndex, @NotNull CompletableFuture<LoadedPage> page) {
+        final CachedPage entry = new CachedPage(page);
+        entries.put(pageIndex, entry);
+        page.whenComplete((result, exception) -> {
+            if (exception != null || result == null) remove(pageIndex, entry);
+        });
+    }
+
+    private synchronized void remove(int pageIndex, CachedPage entry) {
+        entries.remove(pageIndex, entry);
+    }
+
+    /**
+     * Removes all cached pages.
+     */
+    synchronized void invalidate() {
+        entries.clear();
+    }
+
+    private static final class CachedPage {
+        final CompletableFuture<LoadedPage> page;
+        final long createdAt = System.nanoTime();
+
+        CachedPage(CompletableFuture<LoadedPage> page) {
+            this.page = page;
+        }
+    }
+
+    /**
+     * A page loaded from the pagination source.
+     */
+    static final class LoadedPage {
+
+        /**
+         * Source of the pagination when this page was loaded.
+         */
+        final List<?> source;
+
+        /**
+         * Elements of the page.
+         */
+        final List<?> contents;
+
+        /**
+         * Number of pages when this page was loaded.
+         */
+        final int pagesCount;
+
+        LoadedPage(List<?> source, List<?> contents, int pagesCount) {
+            this.source = source;
+            this.contents = contents;
+            this.pagesCount = pagesCount;
+        }
+    }
+}
@@ -2,15 +2,21 @@ package me.devnatan.inventoryframework.component;
 
 import static me.devnatan.inventoryframework.IFDebug.debug;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -23,6 +29,7 @@ import me.devnatan.inventoryframework.context.*;
 import me.devnatan.inventoryframework.internal.LayoutSlot;
 import me.devnatan.inventoryframework.pipeline.PipelineContext;
 import me.devnatan.inventoryframework.pipeline.PipelinePhase;
+import me.devnatan.inventoryframework.pipeline.Pipelined;
 import me.devnatan.inventoryframework.state.State;
 import me.devnatan.inventoryframework.state.StateValue;
 import me.devnatan.inventoryframework.state.StateValueHost;
@@ -30,7 +37,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.UnmodifiableView;
 import org.jetbrains.annotations.VisibleForTesting;
 
-// TODO add "key" to child pagination components and check if it needs to be updated based on it
 @VisibleForTesting
 public class PaginationImpl extends AbstractComponent implements Pagination, StateValue {
 
@@ -41,11 +47,12 @@ public class PaginationImpl extends AbstractComponent implements Pagination, Sta
     private final Object sourceProvider;
     private final PaginationElementFactory<Object> elementFactory;
     private final BiConsumer<VirtualView, Pagination> pageSwitchHandler;
+    private final Function<Object, Object> elementKeyFactory;
 
     // --- Internal ---
     private final long internalStateId;
     private int currPageIndex;
-    private final boolean isLazy, isStatic, isComputed, isAsync;
+    private final boolean isLazy, isStatic, isComputed, isAsync, isWindowed, isStreaming;
     private boolean pageWasChanged;
     private boolean initialized;
     private int pagesCount;
@@ -65,9 +72,36 @@ public class PaginationImpl extends AbstractComponent implements Pagination, Sta
      */
     private Function<VirtualView, Object> _srcFactory;
 
+    // Source provider of windowed pagination, null if pagination is not windowed.
+    private WindowedPaginationSource<VirtualView, ?> _windowedSrc;
+
+    // Source provider of streaming pagination, null if pagination is not streaming.
+    private StreamingPaginationSource<VirtualView, ?> _streamingSrc;
+
+    // --- Streaming (only if pagination is streaming) ---
+    // Iterator opened from the streaming source, null if not opened yet or exhausted.
+    private Iterator<?> stream;
+    // Offset of the next element to be pulled from the stream.
+    private long streamOffset;
+    // Elements of the page after the last loaded page pulled ahead of time.
+    private List<?> lookahead;
+
     // Current page source, null before first pagination render.
     private List<?> currSource;
 
+    // Pages loaded from the source provider, null if pages are not cached.
+    private final PageCache pageCache;
+
+    // --- Keyed elements (only if element key factory is set) ---
+    // Element and component of each key of the current page.
+    private Map<Object, KeyedElement> keyedElements = new HashMap<>();
+    // Components created or moved by the last reconciliation that need to be rendered.
+    private List<Component> pendingRender = Collections.emptyList();
+    // Components removed by the last reconciliation.
+    private List<Component> pendingRemoval = Collections.emptyList();
+    // Slots left empty by the last reconciliation.
+    private Set<Integer> pendingVacated = Collections.emptySet();
+
     public PaginationImpl(
             String key,
             VirtualView root,
@@ -79,20 +113,30 @@ public class PaginationImpl extends AbstractComponent implements Pagination, Sta
             Object sourceProvider,
             PaginationElementFactory<Object> elementFactory,
             BiConsumer<VirtualView, Pagination> pageSwitchHandler,
+            Function<Object, Object> elementKeyFactory,
             boolean isAsync,
-            boolean isComputed) {
+            boolean isComputed,
+            int maxCachedPages,
+            Duration cachedPagesExpiration) {
         super(key, root, reference, watchingStates, displayCondition);
         this.internalStateId = internalStateId;
         this.layoutTarget = layoutTarget;
         this.sourceProvider = sourceProvider;
         this.elementFactory = elementFactory;
         this.pageSwitchHandler = pageSwitchHandler;
+        this.elementKeyFactory = elementKeyFactory;
         this.currSource = convertSourceProvider();
         this.isComputed = isComputed;
         this.isAsync = isAsync;
         this.isStatic = sourceProvider instanceof Collection;
+        this.isWindowed = sourceProvider instanceof WindowedPaginationSource;
+        this.isStreaming = sourceProvider instanceof StreamingPaginationSource;
         this.isLazy =
                 !isStatic && !isComputed && (sourceProvider instanceof Function || sourceProvider instanceof Supplier);
+        if (maxCachedPages > 0) {
+            final long expiration = cachedPagesExpiration == null ? 0 : cachedPagesExpiration.toNanos();
+            this.pageCache = new PageCache(maxCachedPages, expiration);
+        } else this.pageCache = null;
         setHandle(new Handle(this));
     }
 
@@ -106,6 +150,9 @@ public class PaginationImpl extends AbstractComponent implements Pagination, Sta
      * <p>
      * On asynchronous pagination the source update job will be inherited by the user provided one
      * and when job gets done the {@link #currSource} is updated with the result of the computation.
+     * <p>
+     * If pages are cached, a cached page is used instead of calling the source provider again
+     * unless this pagination was force updated, which invalidates all cached pages.
      *
      * @return A CompletableFuture with the current pagination source as result.
      * @throws IllegalStateException In static pagination when the current source wasn't yet defined.
@@ -122,7 +169,7 @@ public class PaginationImpl extends AbstractComponent implements Pagination, Sta
                 "[Pagination] Loading page %d (reuseLazy = %b, isStatic = %b, isComputed = %b, forceUpdated = %b)",
                 currentPageIndex(), reuseLazy, isStatic(), isComputed(), wasForceUpdated());
 
-        if ((isStatic() || reuseLazy) && !isComputed() && !wasForceUpdated()) {
+        if ((isStatic() || reuseLazy) && !isComputed() && !isWindowed() && !isStreaming() && !wasForceUpdated()) {
             // For unknown reasons already initialized but source is null, external modification?
             if (initialized && currSource == null)
                 throw new IllegalStateException("User provided pagination source cannot be null");
@@ -144,27 +191,202 @@ public class PaginationImpl extends AbstractComponent implements Pagination, Sta
             return CompletableFuture.completedFuture(result);
         }
 
+        final int pageIndex = currentPageIndex();
+        CompletableFuture<PageCache.LoadedPage> job = null;
+        if (pageCache != null) {
+            if (wasForceUpdated()) pageCache.invalidate();
+            else job = pageCache.get(pageIndex);
+        }
+
+        if (job == null) {
+            job = loadPage(pageIndex);
+            if (pageCache != null) pageCache.put(pageIndex, job);
+        } else debug("[Pagination] Using cached page %d (loaded = %b)", pageIndex, job.isDone());
+
+        // Cached pages that are already loaded are applied immediately without loading state
+        if (job.isDone() && !job.isCompletedExceptionally()) {
+            final PageCache.LoadedPage page = job.join();
+            applyLoadedPage(page);
+            prefetchAdjacentPages(pageIndex);
+            return CompletableFuture.completedFuture(page.contents);
+        }
+
         isLoading = true;
         simulateStateUpdate();
 
         // TODO Do some error treatment here, even if we expect to the user to handle it
-        return createProvidedNewSource().handle((result, exception) -> {
+        return job.handle((page, exception) -> {
+            isLoading = false;
             if (exception != null) {
                 debug("[Pagination] An error occurred on data source computation: %s", exception.getMessage());
                 exception.printStackTrace();
+                simulateStateUpdate();
                 return Collections.emptyList();
             }
 
-            updateSource(result);
-            isLoading = false;
+            applyLoadedPage(page);
             simulateStateUpdate();
+            prefetchAdjacentPages(pageIndex);
+            return page.contents;
+        });
+    }
+
+    /**
+     * Calls the source provider to load the page with the given index.
+     * <p>
+     * Unlike {@link #loadSourceForTheCurrentPage()} it has no effect on the current source or
+     * pages count so it can also be used to load pages other than the current one.
+     *
+     * @param pageIndex The page index.
+     * @return A CompletableFuture with the loaded page as result.
+     */
+    private CompletableFuture<PageCache.LoadedPage> loadPage(int pageIndex) {
+        if (isWindowed()) return loadWindow(pageIndex);
+        if (isStreaming()) return CompletableFuture.completedFuture(loadStreamPage(pageIndex));
+
+        return createProvidedNewSource().thenApply(result -> {
+            // The provided list is owned by the user and pages can be cached, so they are split from a snapshot of it
+            final List<?> source = snapshotOf(result);
+            final int count = calculatePagesCount(source);
+            final List<?> contents =
+                    isLazy() ? Pagination.splitSourceForPage(pageIndex, getPageSize(), count, source) : source;
+            return new PageCache.LoadedPage(source, contents, count);
+        });
+    }
+
+    /**
+     * Immutable random access copy of the given list, so pages split from it can be views of it
+     * and are not affected by changes made to the given list.
+     *
+     * @param list The list to copy.
+     * @return An immutable copy of the given list.
+     */
+    private static List<?> snapshotOf(List<?> list) {
+        return Collections.unmodifiableList(Arrays.asList(list.toArray()));
+    }
+
+    /**
+     * Fetches only the elements of the page with the given index from the windowed source provider.
+     * <p>
+     * The number of pages is based on the total count reported by the fetched page. If the total
+     * count is unknown, the next page is only considered to be available if the fetched page is full.
+     *
+     * @param pageIndex The page index.
+     * @return A CompletableFuture with the fetched page as result.
+     */
+    private CompletableFuture<PageCache.LoadedPage> loadWindow(int pageIndex) {
+        final int limit = getPageSize();
+        final int offset = pageIndex * limit;
+        debug("[Pagination] Fetching window of page %d (offset = %d, limit = %d)", pageIndex, offset, limit);
 
-            if (isLazy())
-                return Pagination.splitSourceForPage(currentPageIndex(), getPageSize(), getPagesCount(), result);
-            else return result;
+        return _windowedSrc.fetch(offset, limit, getRoot()).thenApply(page -> {
+            if (page == null) throw new IllegalStateException("Windowed pagination source returned a null page");
+
+            List<?> elements = page.getElements();
+            if (elements.size() > limit) elements = elements.subList(0, limit);
+            elements = snapshotOf(elements);
+
+            final int count = page.hasTotalCount()
+                    ? (int) Math.ceil((double) page.getTotalCount() / limit)
+                    : pageIndex + (elements.size() == limit ? 2 : 1);
+            debug(
+                    "[Pagination] Window fetched with %d elements (totalCount = %d, pagesCount = %d)",
+                    elements.size(), page.getTotalCount(), count);
+            return new PageCache.LoadedPage(elements, elements, count);
         });
     }
 
+    /**
+     * Pulls the elements of the page with the given index and of the page after it from the
+     * streaming source provider.
+     * <p>
+     * The elements of the next page pulled ahead by the previous load are reused when advancing
+     * to the next page, otherwise the source is opened again at the offset of the page. The number
+     * of pages is unknown so only the next page is available if it has any element.
+     *
+     * @param pageIndex The page index.
+     * @return The loaded page.
+     */
+    private PageCache.LoadedPage loadStreamPage(int pageIndex) {
+        final int limit = getPageSize();
+        final long offset = (long) pageIndex * limit;
+
+        final List<?> elements;
+        if (lookahead != null && !lookahead.isEmpty() && streamOffset - lookahead.size() == offset)
+            elements = lookahead;
+        else {
+            if (stream == null || streamOffset != offset) {
+                debug("[Pagination] Opening stream of page %d (offset = %d)", pageIndex, offset);
+                closeStream();
+                stream = _streamingSrc.open(getRoot(), offset);
+                streamOffset = offset;
+            }
+            elements = pullFromStream(limit);
+        }
+
+        lookahead = pullFromStream(limit);
+        if (lookahead.isEmpty()) closeStream();
+
+        final int count = pageIndex + (lookahead.isEmpty() ? 1 : 2);
+        debug(
+                "[Pagination] Stream page pulled with %d elements (offset = %d, pagesCount = %d)",
+                elements.size(), offset, count);
+        return new PageCache.LoadedPage(elements, elements, count);
+    }
+
+    private List<?> pullFromStream(int limit) {
+        if (stream == null) return Collections.emptyList();
+
+        final List<Object> elements = new ArrayList<>(limit);
+        while (elements.size() < limit && stream.hasNext()) elements.add(stream.next());
+        streamOffset += elements.size();
+        return elements;
+    }
+
+    /**
+     * Closes the iterator opened from the streaming source provider and discards the elements
+     * pulled ahead of time, so the next page load opens the source again.
+     */
+    private void resetStream() {
+        closeStream();
+        lookahead = null;
+    }
+
+    /**
+     * Closes the iterator opened from the streaming source provider, if any.
+     */
+    private void closeStream() {
+        final Iterator<?> current = stream;
+        stream = null;
+        if (!(current instanceof AutoCloseable)) return;
+
+        try {
+            ((AutoCloseable) current).close();
+        } catch (final Exception exception) {
+            debug("[Pagination] Failed to close stream: %s", exception.getMessage());
+        }
+    }
+
+    /**
+     * Loads the pages around the given one in background so switching to them is immediate.
+     * <p>
+     * Only {@link #isWindowed() windowed} sources with cached pages are prefetched since they're
+     * the only asynchronous sources that are told which page to load, other sources would load the
+     * current page again. Pages that are already cached or that doesn't exist are skipped.
+     *
+     * @param pageIndex Index of the page that was loaded.
+     */
+    private void prefetchAdjacentPages(int pageIndex) {
+        if (pageCache == null || !isWindowed()) return;
+
+        for (final int adjacentIndex : new int[] {pageIndex + 1, pageIndex - 1}) {
+            if (adjacentIndex < 0 || !hasPage(adjacentIndex) || pageCache.contains(adjacentIndex)) continue;
+
+            debug("[Pagination] Prefetching page %d", adjacentIndex);
+            pageCache.put(adjacentIndex, loadPage(adjacentIndex));
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private CompletableFuture<List<?>> createProvidedNewSource() {
         CompletableFuture<List<?>> job = new CompletableFuture<>();
@@ -178,14 +400,14 @@ public class PaginationImpl extends AbstractComponent implements Pagination, Sta
     }
 
     /**
-     * Updates the current source and the number of available pages count based on that source.
+     * Updates the current source and the number of available pages count based on a loaded page.
      *
-     * @param newSource The new data source.
+     * @param page The loaded page.
      */
-    private void updateSource(@NotNull List<?> newSource) {
-        currSource = newSource;
-        pagesCount = calculatePagesCount(currSource);
-        debug("[Pagination] Source updated with %d elements and pages count set to %d", newSource.size(), pagesCount);
+    private void applyLoadedPage(@NotNull PageCache.LoadedPage page) {
+        currSource = page.source;
+        pagesCount = page.pagesCount;
+        debug("[Pagination] Source updated with %d elements and pages count set to %d", currSource.size(), pagesCount);
     }
 
     /**
@@ -199,7 +421,12 @@ public class PaginationImpl extends AbstractComponent implements Pagination, Sta
     @SuppressWarnings("unchecked")
     private List<?> convertSourceProvider() {
         if (sourceProvider instanceof Collection) {
-            currSource = new ArrayList<>((Collection<?>) sourceProvider);
+            // Immutable random access snapshot so pages can be views of it instead of copies
+            currSource = Collections.unmodifiableList(Arrays.asList(((Collection<?>) sourceProvider).toArray()));
+        } else if (sourceProvider instanceof WindowedPaginationSource) {
+            _windowedSrc = (WindowedPaginationSource<VirtualView, ?>) sourceProvider;
+        } else if (sourceProvider instanceof StreamingPaginationSource) {
+            _streamingSrc = (StreamingPaginationSource<VirtualView, ?>) sourceProvider;
         } else if (sourceProvider instanceof Function) {
             _srcFactory = (Function<VirtualView, Object>) sourceProvider;
         } else if (sourceProvider instanceof Supplier) {
@@ -265,12 +492,21 @@ public class PaginationImpl extends AbstractComponent implements Pagination, Sta
 
     /**
      * Loads the current page contents.
+     * <p>
+     * Only called while rendering, it's package-private so that pages can be loaded without a
+     * component render pipeline.
      *
      * @param context The render context.
      * @return A CompletableFuture with the completion stage of the current page.
      */
-    private CompletableFuture<?> loadCurrentPage(IFRenderContext context) {
+    @VisibleForTesting
+    CompletableFuture<?> loadCurrentPage(IFRenderContext context) {
         return loadSourceForTheCurrentPage().thenAccept(pageContents -> {
+            if (isKeyed()) {
+                reconcileComponents(context, pageContents);
+                return;
+            }
+
             if (pageContents.isEmpty()) {
                 debug("[Pagination] Empty page contents (page %d of %d)", currentPageIndex(), getPagesCount());
                 return;
@@ -279,13 +515,17 @@ public class PaginationImpl extends AbstractComponent implements Pagination, Sta
             final boolean useLayout = context.getConfig().getLayout() != null;
             debug("[Pagination] Adding components.. (useLayout = %b)", useLayout);
 
-            if (useLayout) addComponentsForLayeredPagination(context, pageContents);
-            else addComponentsForUnconstrainedPagination(context, pageContents);
+            final ElementPlacement placement = (index, position, value) ->
+                    getInternalComponents().add(elementFactory.create(this, index, position, value));
+            if (useLayout) placeElementsForLayeredPagination(context, pageContents, placement);
+            else placeElementsForUnconstrainedPagination(context, pageContents, placement);
+
+            getInternalComponents().forEach(context::watchComponentStates);
         });
     }
 
     /**
-     * Loads pagination components using container boundaries, no constraints.
+     * Places pagination elements using container boundaries, no constraints.
      * <p>
      * The position of the first paged item must be the first slot in the container, the last
      * position must be the last slot in the container, and {@link #pageSize} on the current page
@@ -293,8 +533,10 @@ public class PaginationImpl extends AbstractComponent implements Pagination, Sta
      *
      * @param context      The render context.
      * @param pageContents Elements of the current page.
+     * @param placement    Called for each element with the position it must be placed.
      */
-    private void addComponentsForUnconstrainedPagination(IFRenderContext context, List<?> pageContents) {
+    private void placeElementsForUnconstrainedPagination(
+            IFRenderContext context, List<?> pageContents, ElementPlacement placement) {
         final ViewContainer container = context.getContainer();
 
         // TODO Investigate why page size is being updated here
@@ -302,22 +544,22 @@ public class PaginationImpl extends AbstractComponent implements Pagination, Sta
 
         final int lastSlot = Math.min(container.getLastSlot() + 1 /* inclusive */, pageContents.size());
         for (int i = container.getFirstSlot(); i < lastSlot; i++) {
-            final Object value = pageContents.get(i);
-            final Component component = elementFactory.create(this, i, i, value);
-            getInternalComponents().add(component);
+            placement.place(i, i, pageContents.get(i));
         }
     }
 
     /**
-     * Renders the pagination using the layout positions defined from the {@link #getLayoutTarget() target layout character}.
+     * Places pagination elements using the layout positions defined from the {@link #getLayoutTarget() target layout character}.
      * <p>
      * The first position, last position and number of items on the page must be exactly the same as
      * the layout.
      *
      * @param context      The render context.
      * @param pageContents Elements of the current page.
+     * @param placement    Called for each element with the position it must be placed.
      */
-    private void addComponentsForLayeredPagination(IFRenderContext context, List<?> pageContents) {
+    private void placeElementsForLayeredPagination(
+            IFRenderContext context, List<?> pageContents, ElementPlacement placement) {
         final LayoutSlot targetLayoutSlot = getLayoutSlotForCurrentTarget(context);
         final int elementsLen = pageContents.size();
         debug("[Pagination] Elements count: %d elements", elementsLen);
@@ -328,14 +570,8 @@ public class PaginationImpl extends AbstractComponent implements Pagination, Sta
             final Object value = pageContents.get(iterationIndex++);
 
             try {
-                final Component component = elementFactory.create(this, iterationIndex, position, value);
-
-                debug(
-                        () -> "  @ added %d (index %d) = %s",
-                        position,
-                        iterationIndex,
-                        component.getClass().getSimpleName());
-                getInternalComponents().add(component);
+                placement.place(iterationIndex, position, value);
+                debug(() -> "  @ added %d (index %d)", position, iterationIndex);
             } catch (final Exception exception) {
                 debug(() -> "  @ failed to add %d (index %d) = %s", position, iterationIndex, exception.getMessage());
                 exception.printStackTrace();
@@ -345,6 +581,108 @@ public class PaginationImpl extends AbstractComponent implements Pagination, Sta
         }
     }
 
+    /**
+     * Reuses the components of elements whose key was already in the previous page, instead of
+     * creating new components for every element of the page.
+     * <p>
+     * Components of elements whose key and value are unchanged are kept as they are if they're in
+     * the same position, or moved to their new position otherwise. Components of changed or new
+     * elements are created, and components of elements that are no longer in the page are removed.
+     * <p>
+     * Only created and moved components need to be rendered and are rendered later by
+     * {@link #applyReconciliation(IFRenderContext)}.
+     *
+     * @param context      The render context.
+     * @param pageContents Elements of the current page.
+     */
+    private void reconcileComponents(IFRenderContext context, List<?> pageContents) {
+        final Map<Object, KeyedElement> previous = keyedElements;
+        final Map<Object, KeyedElement> current = new HashMap<>();
+        final List<Component> placed = new ArrayList<>(pageContents.size());
+        final List<Component> render = new ArrayList<>();
+        final List<Component> removed = new ArrayList<>();
+        final Set<Integer> vacated = new HashSet<>();
+
+        final ElementPlacement placement = (index, position, value) -> {
+            final Object key = elementKeyFactory.apply(value);
+            final KeyedElement old = current.containsKey(key) ? null : previous.remove(key);
+
+            Component component = old == null ? null : old.component;
+            if (component instanceof ItemComponent && Objects.equals(old.value, value)) {
+                final ItemComponent item = (ItemComponent) component;
+                if (item.getPosition() != position) {
+                    vacated.add(item.getPosition());
+                    item.setPosition(position);
+                    render.add(component);
+                }
+            } else {
+                if (old != null) removed.add(old.component);
+                component = elementFactory.create(this, index, position, value);
+                render.add(component);
+            }
+
+            // Elements with duplicated keys are still placed but only the first one is reused
+            if (current.putIfAbsent(key, new KeyedElement(value, component)) != null)
+                debug("[Pagination] Duplicated element key %s", key);
+            placed.add(component);
+        };
+
+        if (!pageContents.isEmpty()) {
+            final boolean useLayout = context.getConfig().getLayout() != null;
+            if (useLayout) placeElementsForLayeredPagination(context, pageContents, placement);
+            else placeElementsForUnconstrainedPagination(context, pageContents, placement);
+        }
+
+        for (final KeyedElement element : previous.values()) removed.add(element.component);
+        for (final Component component : removed) {
+            if (component instanceof ItemComponent) vacated.add(((ItemComponent) component).getPosition());
+        }
+        for (final Component component : placed) {
+            if (component instanceof ItemComponent) vacated.remove(((ItemComponent) component).getPosition());
+        }
+
+        debug(
+                "[Pagination] Reconciled %d elements (rendered = %d, removed = %d, vacated = %d)",
+                placed.size(), render.size(), removed.size(), vacated.size());
+
+        components = placed;
+        keyedElements = current;
+        pendingRender = render;
+        pendingRemoval = removed;
+        pendingVacated = vacated;
+    }
+
+    /**
+     * Applies the changes of the last {@link #reconcileComponents(IFRenderContext, List)
+     * reconciliation} to the container, only slots whose contents were changed are modified.
+     * <p>
+     * Package-private so reconciliations can be applied right after a page is loaded, without
+     * waiting for the render continuation.
+     *
+     * @param context The render context.
+     */
+    @VisibleForTesting
+    void applyReconciliation(IFRenderContext context) {
+        for (final Component component : pendingRemoval) {
+            context.unwatchComponentStates(component);
+            context.clearComponent(component);
+        }
+        for (final int slot : pendingVacated) context.getContainer().removeItem(slot);
+        for (final Component component : pendingRender) context.renderComponent(component);
+        for (final Component component : getInternalComponents()) context.watchComponentStates(component);
+
+        pendingRender = Collections.emptyList();
+        pendingRemoval = Collections.emptyList();
+        pendingVacated = Collections.emptySet();
+    }
+
+    /**
+     * If element components are keyed and reconciled on page changes instead of recreated.
+     */
+    private boolean isKeyed() {
+        return elementKeyFactory != null;
+    }
+
     /**
      * Updates the current page size.
      * <p>
@@ -353,10 +691,14 @@ public class PaginationImpl extends AbstractComponent implements Pagination, Sta
      * {@link #getLayoutTarget() layout target} characters in the layout configured layout.
      * <p>
      * When without a configured layout in the root, the page size is the entire size of context's container.
+     * <p>
+     * Package-private since the page size must be known before pages are loaded outside of the
+     * first render.
      *
      * @param context The render context.
      */
-    private void updatePageSize(IFRenderContext context) {
+    @VisibleForTesting
+    void updatePageSize(IFRenderContext context) {
         final boolean useLayout = context.getConfig().getLayout() != null;
         if (useLayout) pageSize = getLayoutSlotForCurrentTarget(context).getPositions().length;
         else pageSize = context.getContainer().getSize();
@@ -543,6 +885,16 @@ public class PaginationImpl extends AbstractComponent implements Pagination, Sta
         return isAsync;
     }
 
+    @Override
+    public boolean isWindowed() {
+        return isWindowed;
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return isStreaming;
+    }
+
     @Override
     public boolean isLoading() {
         return isLoading;
@@ -561,14 +913,19 @@ public class PaginationImpl extends AbstractComponent implements Pagination, Sta
     }
 
     // region Pipelining
-    void render(@NotNull IFComponentRenderContext context) {
+    void render(@NotNull PipelineContext<VirtualView> pipeline, @NotNull IFComponentRenderContext context) {
         final IFRenderContext root = context.getParent();
-        if (!initialized || pageWasChanged) {
+        if (!initialized || pageWasChanged || wasForceUpdated()) {
             if (!initialized) updatePageSize(root);
-            loadCurrentPage(root).thenRun(() -> {
-                renderChild(root);
-                simulateStateUpdate();
-            });
+            // component pipelines are shared between views so resume on the root pipeline executor
+            pipeline.suspendUntil(
+                    loadCurrentPage(root),
+                    $ -> {
+                        if (isKeyed()) applyReconciliation(root);
+                        else renderChild(root);
+                        simulateStateUpdate();
+                    },
+                    getResumeExecutor(root));
             setVisible(true);
             initialized = true;
             return;
@@ -577,6 +934,12 @@ public class PaginationImpl extends AbstractComponent implements Pagination, Sta
         renderChild(root);
     }
 
+    private Executor getResumeExecutor(IFRenderContext root) {
+        final VirtualView rootView = root.getRoot();
+        if (rootView instanceof Pipelined) return ((Pipelined) rootView).getPipeline().getResumeExecutor();
+        return Runnable::run;
+    }
+
     void updated(@NotNull IFComponentUpdateContext context) {
         final IFRenderContext root = (IFRenderContext) context.getTopLevelContext();
 
@@ -584,8 +947,19 @@ public class PaginationImpl extends AbstractComponent implements Pagination, Sta
                 "[Pagination] #updated(IFSlotRenderContext) called (forceUpdated = %b, pageWasChanged = %b)",
                 wasForceUpdated(), pageWasChanged);
 
+        // Force updates must pull elements from the streaming source again, not from the old iterator
+        if (wasForceUpdated()) resetStream();
+
+        // Keyed components are reconciled on render so only changed components are removed
+        if (isKeyed() && (wasForceUpdated() || pageWasChanged)) {
+            root.renderComponent(this);
+            pageWasChanged = false;
+            return;
+        }
+
         // If page was changed all components will be removed, so don't trigger update on them
         if (wasForceUpdated() || pageWasChanged) {
+            getInternalComponents().forEach(root::unwatchComponentStates);
             cleared(root);
             components = new ArrayList<>();
             root.renderComponent(this);
@@ -627,6 +1001,7 @@ public class PaginationImpl extends AbstractComponent implements Pagination, Sta
         debug("[Pagination] #clear(IFRenderContext) called (pageWasChanged = %b)", pageWasChanged);
         if (!pageWasChanged) {
             getInternalComponents().forEach(context::clearComponent);
+            resetStream();
             return;
         }
 
@@ -634,11 +1009,31 @@ public class PaginationImpl extends AbstractComponent implements Pagination, Sta
         while (childIterator.hasNext()) {
             Component child = childIterator.next();
             context.clearComponent(child);
+            context.unwatchComponentStates(child);
             childIterator.remove();
         }
+        keyedElements.clear();
     }
     // endregion
 
+    /**
+     * Called for each element of a page with the position it must be placed.
+     */
+    @FunctionalInterface
+    private interface ElementPlacement {
+        void place(int index, int position, Object value);
+    }
+
+    private static final class KeyedElement {
+        final Object value;
+        final Component component;
+
+        KeyedElement(Object value, Component component) {
+            this.value = value;
+            this.component = component;
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -695,7 +1090,7 @@ class Handle extends ComponentHandle {
     public void intercept(PipelineContext<VirtualView> pipeline, VirtualView subject) {
         final PipelinePhase phase = Objects.requireNonNull(
                 pipeline.getPhase(), "Pipeline phase cannot be null in ComponentHandle interceptor");
-        if (phase == Component.RENDER) pagination.render((IFComponentRenderContext) subject);
+        if (phase == Component.RENDER) pagination.render(pipeline, (IFComponentRenderContext) subject);
         else if (phase == Component.UPDATE) pagination.updated((IFComponentUpdateContext) subject);
         else if (phase == Component.CLEAR) pagination.cleared((IFRenderContext) subject);
         else if (phase == Component.CLICK) pagination.clicked((IFSlotClickContext) subject);
@@ -20,6 +20,6 @@ public final class ComponentClickHandlerCallInterceptor implements PipelineInter
             return;
         }
         IFDebug.debug("ComponentClickHandlerCallInterceptor: %s", component);
-        component.getPipeline().execute(Component.CLICK, click);
+        component.getExecutionPipeline().execute(Component.CLICK, click);
     }
 }
@@ -8,11 +8,6 @@ import me.devnatan.inventoryframework.VirtualView;
 import me.devnatan.inventoryframework.component.Component;
 import me.devnatan.inventoryframework.component.ComponentComposition;
 import me.devnatan.inventoryframework.context.IFRenderContext;
-import me.devnatan.inventoryframework.state.State;
-import me.devnatan.inventoryframework.state.StateValue;
-import me.devnatan.inventoryframework.state.StateValueHost;
-import me.devnatan.inventoryframework.state.StateWatcher;
-import org.jetbrains.annotations.NotNull;
 
 /**
  * Intercepts the rendering phase of a context and renders all components on it.
@@ -70,57 +65,12 @@ public final class FirstRenderInterceptor implements PipelineInterceptor<Virtual
 
     /**
      * Registers all components as listeners of the states they want to watch to.
-     * <p>
-     * If the component is a {@link StateWatcher} the component itself is registered as
-     * the state watcher.
      *
      * @param context   The context.
      * @param component The component.
+     * @see IFRenderContext#watchComponentStates(Component)
      */
     private void setupWatchers(IFRenderContext context, Component component) {
-        for (final State<?> stateBeingWatched : component.getWatchingStates()) {
-            final StateWatcher watcher;
-            if (component instanceof StateWatcher) watcher = (StateWatcher) component;
-            else watcher = new SingleComponentStateWatcherUpdater(context, component);
-
-            context.watchState(stateBeingWatched.internalId(), watcher);
-        }
-    }
-}
-
-class SingleComponentStateWatcherUpdater implements StateWatcher {
-
-    private final IFRenderContext root;
-    private final Component componentToUpdate;
-
-    public SingleComponentStateWatcherUpdater(IFRenderContext root, Component componentToUpdate) {
-        this.root = root;
-        this.componentToUpdate = componentToUpdate;
-    }
-
-    @Override
-    public void stateRegistered(@NotNull State<?> state, Object caller) {}
-
-    @Override
-    public void stateUnregistered(@NotNull State<?> state, Object caller) {}
-
-    @Override
-    public void stateValueGet(
-            @NotNull State<?> state,
-            @NotNull StateValueHost host,
-            @NotNull StateValue internalValue,
-            Object rawValue) {}
-
-    @Override
-    public void stateValueSet(
-            @NotNull StateValueHost host, @NotNull StateValue value, Object rawOldValue, Object rawNewValue) {
-        root.updateComponent(componentToUpdate, false, null);
-    }
-
-    @Override
-    public String toString() {
-        return "SingleComponentStateWatcherUpdater{" + "root="
-                + root + ", componentToUpdate="
-                + componentToUpdate + '}';
+        context.watchComponentStates(component);
     }
 }
@@ -1,5 +1,7 @@
 package me.devnatan.inventoryframework.pipeline;
 
+import java.util.ArrayList;
+import java.util.List;
 import me.devnatan.inventoryframework.RootView;
 import me.devnatan.inventoryframework.VirtualView;
 import me.devnatan.inventoryframework.context.IFContext;
@@ -19,11 +21,29 @@ public final class ScheduledUpdateAfterRenderInterceptor implements PipelineInte
         if (updateIntervalInTicks == 0) return;
         if (root.getScheduledUpdateJob() != null && root.getScheduledUpdateJob().isStarted()) return;
 
-        final Job updateJob = root.getElementFactory()
-                .scheduleJobInterval(root, updateIntervalInTicks, () -> root.getInternalContexts().stream()
-                        .filter(IFContext::isActive)
-                        .forEach(IFContext::update));
+        final Job updateJob =
+                root.getElementFactory().scheduleJobInterval(root, updateIntervalInTicks, () -> updateAll(root));
         updateJob.start();
         root.setScheduledUpdateJob(updateJob);
     }
+
+    /**
+     * Updates all active contexts of the given root in a single batch execution, contexts are marked
+     * as {@link IFRenderContext#isScheduledUpdate() being scheduled updated} during the execution.
+     *
+     * @param root The root whose contexts will be updated.
+     */
+    private void updateAll(RootView root) {
+        final List<IFRenderContext> activeContexts = new ArrayList<>();
+        for (final IFContext context : root.getInternalContexts()) {
+            if (context.isActive() && context instanceof IFRenderContext) activeContexts.add((IFRenderContext) context);
+        }
+
+        for (final IFRenderContext context : activeContexts) context.setScheduledUpdate(true);
+        try {
+            root.getPipeline().executeAll(StandardPipelinePhases.UPDATE, new ArrayList<VirtualView>(activeContexts));
+        } finally {
+            for (final IFRenderContext context : activeContexts) context.setScheduledUpdate(false);
+        }
+    }
 }
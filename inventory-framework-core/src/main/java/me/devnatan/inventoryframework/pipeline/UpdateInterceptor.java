@@ -1,6 +1,7 @@
 package me.devnatan.inventoryframework.pipeline;
 
 import java.util.List;
+import me.devnatan.inventoryframework.ViewConfig;
 import me.devnatan.inventoryframework.VirtualView;
 import me.devnatan.inventoryframework.component.Component;
 import me.devnatan.inventoryframework.context.IFRenderContext;
@@ -17,8 +18,14 @@ public final class UpdateInterceptor implements PipelineInterceptor<VirtualView>
         final IFRenderContext context = (IFRenderContext) subject;
         if (!context.isRendered()) return;
 
+        // explicitly requested updates are never skipped, only scheduled ones
+        final boolean skipUnchanged =
+                context.isScheduledUpdate() && context.getConfig().isOptionSet(ViewConfig.SKIP_UNCHANGED_UPDATES);
+
         final List<Component> componentList = context.getComponents();
         for (final Component component : componentList) {
+            if (skipUnchanged && context.isComponentUpToDate(component)) continue;
+
             // TODO Set update reason
             context.updateComponent(component, false, null);
         }
@@ -2,29 +2,28 @@ package me.devnatan.inventoryframework.pipeline;
 
 import me.devnatan.inventoryframework.IFDebug;
 import me.devnatan.inventoryframework.Viewer;
-import me.devnatan.inventoryframework.VirtualView;
 import me.devnatan.inventoryframework.context.IFSlotClickContext;
 import org.jetbrains.annotations.NotNull;
 
-public final class ViewerLastInteractionTrackerInterceptor implements PipelineInterceptor<VirtualView> {
+/**
+ * Guards click executions, rejecting clicks of viewers blocked by the interaction delay before any
+ * other click interceptor is called.
+ */
+public final class ViewerLastInteractionTrackerInterceptor implements PipelineGuard<IFSlotClickContext> {
 
     @Override
-    public void intercept(@NotNull PipelineContext<VirtualView> pipeline, @NotNull VirtualView subject) {
-        if (!(subject instanceof IFSlotClickContext)) return;
-
-        final IFSlotClickContext click = (IFSlotClickContext) subject;
-
+    public boolean allow(@NotNull PipelineContext<IFSlotClickContext> pipeline, @NotNull IFSlotClickContext click) {
         // fast path -- skip checks and currentTimeMillis() calls if interaction delay is not enabled
-        if (click.getConfig().getInteractionDelayInMillis() <= 0) return;
+        if (click.getConfig().getInteractionDelayInMillis() <= 0) return true;
 
         final Viewer viewer = click.getViewer();
         if (!click.isCombined() && viewer.isBlockedByInteractionDelay()) {
             IFDebug.debug("ViewerLastInteractionTrackerInterceptor: pipeline finished due to interaction delay");
             click.setCancelled(true);
-            pipeline.finish();
-            return;
+            return false;
         }
 
         viewer.setLastInteractionInMillis(System.currentTimeMillis());
+        return true;
     }
 }
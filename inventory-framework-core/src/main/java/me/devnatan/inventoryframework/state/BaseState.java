@@ -14,6 +14,14 @@ public class BaseState<T> implements State<T> {
     private final long id;
     private final StateValueFactory valueFactory;
 
+    /**
+     * Layout in which this state has a slot assigned and the slot itself, {@code -1} until the
+     * registry this state belongs to is frozen.
+     */
+    private StateSlotLayout slotLayout;
+
+    private int slot = -1;
+
     public BaseState(long id, StateValueFactory valueFactory) {
         this.id = id;
         this.valueFactory = valueFactory;
@@ -35,6 +43,21 @@ public class BaseState<T> implements State<T> {
         return valueFactory;
     }
 
+    /**
+     * Slot of this state in the given layout.
+     *
+     * @param layout The layout.
+     * @return The slot of this state or {@code -1} if this state has no slot in the given layout.
+     */
+    final int slotIn(StateSlotLayout layout) {
+        return layout == slotLayout ? slot : -1;
+    }
+
+    final void assignSlot(StateSlotLayout layout, int slot) {
+        this.slotLayout = layout;
+        this.slot = slot;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,115 @@
+package me.devnatan.inventoryframework.state;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Storage that can be safely accessed from multiple threads.
+ * <p>
+ * Reads never lock, values are published through {@link ConcurrentHashMap} and
+ * {@link AtomicReferenceArray} so a value stored by a thread is fully visible to other threads
+ * reading it, and watchers are kept in concurrent sets so they can be registered and
+ * unregistered while being notified from another thread. Watchers of a state are not notified
+ * in any particular order.
+ */
+final class ConcurrentStateValueStorage extends StateValueStorage {
+
+    private final Map<Long, StateValue> values = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Registration>> watchers = new ConcurrentHashMap<>();
+    private volatile AtomicReferenceArray<StateValue> slotValues;
+
+    @Override
+    void useSlotLayout(@NotNull StateSlotLayout layout) {
+        slotValues = new AtomicReferenceArray<>(layout.size());
+        slotLayout = layout;
+    }
+
+    @Override
+    StateValue get(int slot, long stateId) {
+        return slot == -1 ? values.get(stateId) : slotValues.get(slot);
+    }
+
+    @Override
+    @NotNull
+    StateValue putIfAbsent(int slot, long stateId, @NotNull StateValue value) {
+        if (slot != -1) {
+            if (slotValues.compareAndSet(slot, null, value)) return value;
+            return slotValues.get(slot);
+        }
+
+        final StateValue current = values.putIfAbsent(stateId, value);
+        return current == null ? value : current;
+    }
+
+    @Override
+    void put(int slot, long stateId, @NotNull StateValue value) {
+        if (slot == -1) values.put(stateId, value);
+        else slotValues.set(slot, value);
+    }
+
+    @Override
+    void forEach(@NotNull BiConsumer<Long, StateValue> action) {
+        final AtomicReferenceArray<StateValue> slotValues = this.slotValues;
+        if (slotValues != null) {
+            for (int slot = 0; slot < slotValues.length(); slot++) {
+                final StateValue value = slotValues.get(slot);
+                if (value != null) action.accept(slotLayout.idOf(slot), value);
+            }
+        }
+
+        values.forEach(action);
+    }
+
+    @Override
+    void forEachWatcher(long stateId, @NotNull Consumer<StateWatcher> action) {
+        final Set<Registration> stateWatchers = watchers.get(stateId);
+        if (stateWatchers == null) return;
+
+        for (final Registration registration : stateWatchers) action.accept(registration.watcher);
+    }
+
+    @Override
+    @NotNull
+    StateWatcherRegistration addWatcher(long stateId, @NotNull StateWatcher watcher) {
+        final Set<Registration> stateWatchers =
+                watchers.computeIfAbsent(stateId, $ -> ConcurrentHashMap.newKeySet());
+        final Registration registration = new Registration(stateWatchers, watcher);
+        stateWatchers.add(registration);
+        return registration;
+    }
+
+    /**
+     * Registration that is an element of the concurrent set of watchers it was added to, which
+     * compares registrations by identity.
+     */
+    private static final class Registration implements StateWatcherRegistration {
+
+        private final Set<Registration> owner;
+        private final StateWatcher watcher;
+
+        Registration(Set<Registration> owner, StateWatcher watcher) {
+            this.owner = owner;
+            this.watcher = watcher;
+        }
+
+        @Override
+        public void unregister() {
+            owner.remove(this);
+        }
+
+        @Override
+        public boolean isRegistered() {
+            return owner.contains(this);
+        }
+
+        @Override
+        public String toString() {
+            return "StateWatcherRegistration{" + "watcher=" + watcher + '}';
+        }
+    }
+}
@@ -1,18 +1,28 @@
 package me.devnatan.inventoryframework.state;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import me.devnatan.inventoryframework.IFDebug;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnmodifiableView;
 
 /**
- * HashMap-backed Default implementation for StateHost.
+ * Default implementation for StateHost backed by maps with primitive state id keys, or by
+ * concurrent maps if {@link #useConcurrentStorage(Executor) concurrent storage} is used.
  * <p>
  * <b><i> This is an internal inventory-framework API that should not be used from outside of
  * this library. No compatibility guarantees are provided. </i></b>
@@ -20,17 +30,83 @@ import org.jetbrains.annotations.UnmodifiableView;
 @ApiStatus.Internal
 public class DefaultStateValueHost implements StateValueHost {
 
-    private final Map<Long, StateValue> valuesMap = new HashMap<>();
-    private final Map<Long, List<StateWatcher>> listeners = new HashMap<>();
+    private static final AtomicLongFieldUpdater<DefaultStateValueHost> STATE_VERSION =
+            AtomicLongFieldUpdater.newUpdater(DefaultStateValueHost.class, "stateVersion");
 
+    private StateValueStorage storage = new LocalStateValueStorage();
+
+    /**
+     * Executor on which watchers are notified of state values changes, {@code null} to notify
+     * them in the thread that changed the value.
+     */
+    private Executor watcherExecutor;
+
+    /**
+     * Watcher notified of every state read from this host by the thread that set it, used to
+     * track dependencies of a value while it's being computed.
+     */
+    private final ThreadLocal<StateWatcher> dependencyTracker = new ThreadLocal<>();
+
+    /**
+     * Number of threads tracking dependencies, reads skip the thread local lookup if there are none.
+     */
+    private final AtomicInteger dependencyTrackers = new AtomicInteger();
+
+    /**
+     * Dependency graph of the derived values initialized in this host, created when the first one
+     * is initialized.
+     */
+    private volatile DerivedStateGraph derivedGraph;
+
+    private volatile long stateVersion;
+
+    private final Map<Long, StateValue> stateValuesView = new StateValuesView();
+
+    /**
+     * Makes this host safe to be read and updated from multiple threads at the same time.
+     * <p>
+     * State values initialized or updated by a thread are visible to any other thread that reads
+     * them afterward. Watchers are notified of value changes on the given executor, in which case
+     * everything done by the updating thread before the update happens-before the notification,
+     * or in the updating thread itself if it's {@code null}. Memoized values are invalidated in
+     * the updating thread in both cases.
+     * <p>
+     * Must be called before any state value is initialized in this host and before
+     * {@link #useSlotLayout(StateSlotLayout)}.
+     *
+     * @param watcherExecutor Executor on which watchers are notified of value changes.
+     */
+    protected final void useConcurrentStorage(@Nullable Executor watcherExecutor) {
+        this.storage = new ConcurrentStateValueStorage();
+        this.watcherExecutor = watcherExecutor;
+    }
+
+    /**
+     * Stores the values of the states of the given layout in an array indexed by state slot.
+     * <p>
+     * Must be called before any state value is initialized in this host.
+     *
+     * @param layout The slot layout.
+     */
+    protected final void useSlotLayout(@NotNull StateSlotLayout layout) {
+        storage.useSlotLayout(layout);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned map is a live view of the values stored in this host, nothing is copied when it
+     * is created and {@link Map#forEach(BiConsumer) iterating through forEach} reads the storage
+     * directly. Only its entry set copies the values, when iterated.
+     */
     @Override
     public @UnmodifiableView Map<Long, StateValue> getStateValues() {
-        return Collections.unmodifiableMap(valuesMap);
+        return stateValuesView;
     }
 
     @Override
     public StateValue getUninitializedStateValue(long stateId) {
-        return valuesMap.get(stateId);
+        return storage.get(storage.slotOf(stateId), stateId);
     }
 
     @Override
@@ -38,17 +114,55 @@ public class DefaultStateValueHost implements StateValueHost {
         final StateValue value = getInternalStateValue(state);
         final Object result = value.get();
         callStateListeners(value, listener -> listener.stateValueGet(state, this, value, result));
+
+        if (dependencyTrackers.get() == 0) return result;
+
+        final StateWatcher tracker = dependencyTracker.get();
+        if (tracker != null && tracker != value) tracker.stateValueGet(state, this, value, result);
         return result;
     }
 
+    /**
+     * Sets the watcher that will be notified of every state read from this host by the current
+     * thread.
+     *
+     * @param tracker The dependency tracker or {@code null} to stop tracking.
+     * @return The previous dependency tracker, to be restored when the given one is done.
+     */
+    final StateWatcher trackDependencies(StateWatcher tracker) {
+        final StateWatcher previous = dependencyTracker.get();
+        if (tracker == null) dependencyTracker.remove();
+        else dependencyTracker.set(tracker);
+
+        if (previous == null && tracker != null) dependencyTrackers.incrementAndGet();
+        else if (previous != null && tracker == null) dependencyTrackers.decrementAndGet();
+        return previous;
+    }
+
+    /**
+     * Checks if the given watcher is tracking the states read from this host by the current thread.
+     *
+     * @param tracker The dependency tracker.
+     * @return If the given tracker is the current thread dependency tracker.
+     */
+    final boolean isTrackingDependencies(StateWatcher tracker) {
+        return dependencyTrackers.get() != 0 && dependencyTracker.get() == tracker;
+    }
+
     @Override
     public StateValue getInternalStateValue(State<?> state) {
+        final StateValueStorage storage = this.storage;
         final long id = state.internalId();
-        StateValue value = getUninitializedStateValue(id);
+        final int slot = storage.slotOf(state);
+
+        StateValue value = storage.get(slot, id);
         if (value == null) {
-            value = state.factory().create(this, state);
-            initializeState(id, value);
-            IFDebug.debug("State %s initialized (initialValue = %s)", id, value.toString());
+            final StateValue created = state.factory().create(this, state);
+            value = storage.putIfAbsent(slot, id, created);
+            if (value == created) {
+                IFDebug.debug("State %s initialized (initialValue = %s)", id, value.toString());
+                if (value instanceof DerivedValue) registerDerived((DerivedValue) value);
+            }
         }
 
         return value;
@@ -56,7 +170,21 @@ public class DefaultStateValueHost implements StateValueHost {
 
     @Override
     public void initializeState(long id, @NotNull StateValue value) {
-        valuesMap.put(id, value);
+        storage.put(storage.slotOf(id), id, value);
+        STATE_VERSION.incrementAndGet(this);
+        if (value instanceof DerivedValue) registerDerived((DerivedValue) value);
+    }
+
+    private void registerDerived(DerivedValue value) {
+        DerivedStateGraph graph = derivedGraph;
+        if (graph == null) {
+            synchronized (this) {
+                graph = derivedGraph;
+                if (graph == null) derivedGraph = graph = new DerivedStateGraph();
+            }
+        }
+
+        graph.register(value);
     }
 
     @Override
@@ -64,21 +192,131 @@ public class DefaultStateValueHost implements StateValueHost {
         final StateValue stateValue = getUninitializedStateValue(id);
         final Object oldValue = stateValue.get();
         stateValue.set(value);
+        STATE_VERSION.incrementAndGet(this);
 
         final Object newValue = stateValue.get();
         IFDebug.debug("State %s updated (oldValue = %s, newValue = %s)", id, oldValue, newValue);
-        callStateListeners(stateValue, listener -> listener.stateValueSet(this, stateValue, oldValue, newValue));
+
+        // Derived values can't change if their input didn't, but watchers are still notified of the set
+        final List<DerivedStateGraph.Change> derivedChanges =
+                Objects.equals(oldValue, newValue) ? Collections.emptyList() : propagateToDerived(id);
+        notifyStateValueSet(stateValue, listener -> listener.stateValueSet(this, stateValue, oldValue, newValue));
+        notifyDerivedChanges(derivedChanges);
     }
 
     @Override
-    public void watchState(long id, StateWatcher listener) {
-        listeners.computeIfAbsent(id, $ -> new ArrayList<>()).add(listener);
+    public StateWatcherRegistration watchState(long id, StateWatcher listener) {
+        return storage.addWatcher(id, listener);
+    }
+
+    @Override
+    public void primitiveStateUpdated(@NotNull StateValue value, long oldValue, long newValue) {
+        STATE_VERSION.incrementAndGet(this);
+        if (IFDebug.isDebugEnabled())
+            IFDebug.debug("State %s updated (oldValue = %s, newValue = %s)", value.internalId(), oldValue, newValue);
+
+        final List<DerivedStateGraph.Change> derivedChanges =
+                oldValue == newValue ? Collections.emptyList() : propagateToDerived(value.internalId());
+        notifyStateValueSet(value, listener -> {
+            if (listener instanceof PrimitiveStateWatcher)
+                ((PrimitiveStateWatcher) listener).primitiveStateValueSet(this, value, oldValue, newValue);
+            else listener.stateValueSet(this, value, box(value, oldValue), box(value, newValue));
+        });
+        notifyDerivedChanges(derivedChanges);
+    }
+
+    /**
+     * Recomputes the derived values that depend on the given state before any watcher is notified,
+     * so watchers never observe a derived value that is out of date with its inputs.
+     */
+    private List<DerivedStateGraph.Change> propagateToDerived(long id) {
+        final DerivedStateGraph graph = derivedGraph;
+        return graph == null ? Collections.emptyList() : graph.propagate(id);
+    }
+
+    private void notifyDerivedChanges(List<DerivedStateGraph.Change> changes) {
+        for (final DerivedStateGraph.Change change : changes) {
+            final DerivedValue value = change.value;
+            notifyStateValueSet(
+                    value, listener -> listener.stateValueSet(this, value, change.oldValue, change.newValue));
+        }
+    }
+
+    @Override
+    public final long getStateVersion() {
+        return stateVersion;
+    }
+
+    private static Object box(StateValue value, long primitive) {
+        return value instanceof IntValue ? Integer.valueOf((int) primitive) : Long.valueOf(primitive);
+    }
+
+    /**
+     * Notifies the watchers of the given value that it was set, on the {@link #watcherExecutor}
+     * if there's one. Memoized values are always invalidated in the caller thread so reads made
+     * by it right after the set never observe a stale value.
+     *
+     * @param value The value that was set.
+     * @param call  The notification to send to each watcher.
+     */
+    final void notifyStateValueSet(@NotNull StateValue value, Consumer<StateWatcher> call) {
+        final Executor executor = watcherExecutor;
+        if (executor == null) {
+            callStateListeners(value, call);
+            return;
+        }
+
+        callStateListeners(value, watcher -> {
+            if (watcher instanceof MemoizedValue) call.accept(watcher);
+        });
+        executor.execute(() -> callStateListeners(value, watcher -> {
+            if (!(watcher instanceof MemoizedValue)) call.accept(watcher);
+        }));
     }
 
     protected void callStateListeners(@NotNull StateValue value, Consumer<StateWatcher> call) {
         if (value instanceof StateWatcher) call.accept((StateWatcher) value);
 
-        if (listeners.containsKey(value.internalId()))
-            listeners.get(value.internalId()).forEach(call);
+        storage.forEachWatcher(value.internalId(), call);
+    }
+
+    /**
+     * Unmodifiable view of the state values stored in this host.
+     */
+    private final class StateValuesView extends AbstractMap<Long, StateValue> {
+
+        @Override
+        public StateValue get(Object key) {
+            return key instanceof Long ? getUninitializedStateValue((Long) key) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super Long, ? super StateValue> action) {
+            storage.forEach(action::accept);
+        }
+
+        @Override
+        public @NotNull Set<Entry<Long, StateValue>> entrySet() {
+            return new AbstractSet<Entry<Long, StateValue>>() {
+                @Override
+                public @NotNull Iterator<Entry<Long, StateValue>> iterator() {
+                    final List<Entry<Long, StateValue>> entries = new ArrayList<>();
+                    storage.forEach((id, value) -> entries.add(new SimpleImmutableEntry<>(id, value)));
+                    return Collections.unmodifiableList(entries).iterator();
+                }
+
+                @Override
+                public int size() {
+                    final int[] size = {0};
+                    storage.forEach((id, value) -> size[0]++);
+                    return size[0];
+                }
+            };
+        }
     }
 }
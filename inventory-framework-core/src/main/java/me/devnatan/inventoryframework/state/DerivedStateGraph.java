@@ -0,0 +1,91 @@
+package me.devnatan.inventoryframework.state;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Dependency graph of the {@link DerivedValue derived values} initialized in a host.
+ * <p>
+ * When a state changes its dependent values are recomputed in topological order, by ascending
+ * {@link DerivedValue#getRank() rank}, so each value is recomputed at most once per change and
+ * only after every derived value it depends on is up to date. Values whose derivation results in
+ * a value equal to the previous one don't propagate the change to their dependents.
+ */
+final class DerivedStateGraph {
+
+    static final Object UNCHANGED = new Object();
+
+    private static final Comparator<DerivedValue> TOPOLOGICAL_ORDER =
+            Comparator.comparingInt(DerivedValue::getRank).thenComparingLong(DerivedValue::internalId);
+
+    private final LongObjectMap<List<DerivedValue>> dependents = new LongObjectMap<>();
+
+    /**
+     * Adds a derived value to this graph as a dependent of each one of its inputs.
+     *
+     * @param value The derived value.
+     */
+    synchronized void register(@NotNull DerivedValue value) {
+        for (final State<?> input : value.getInputs()) {
+            List<DerivedValue> inputDependents = dependents.get(input.internalId());
+            if (inputDependents == null) dependents.put(input.internalId(), inputDependents = new ArrayList<>());
+
+            inputDependents.add(value);
+        }
+
+        value.markTracked();
+    }
+
+    /**
+     * Recomputes all derived values that depend directly or transitively on the given state.
+     *
+     * @param stateId The id of the state that changed.
+     * @return The derived values that changed, in the order they were recomputed.
+     */
+    synchronized List<Change> propagate(long stateId) {
+        final List<DerivedValue> direct = dependents.get(stateId);
+        if (direct == null) return Collections.emptyList();
+
+        final PriorityQueue<DerivedValue> queue = new PriorityQueue<>(TOPOLOGICAL_ORDER);
+        final Set<DerivedValue> queued = new HashSet<>();
+        enqueue(direct, queue, queued);
+
+        final List<Change> changes = new ArrayList<>();
+        DerivedValue value;
+        while ((value = queue.poll()) != null) {
+            final Object oldValue = value.recompute();
+            if (oldValue == UNCHANGED) continue;
+
+            changes.add(new Change(value, oldValue, value.get()));
+
+            final List<DerivedValue> next = dependents.get(value.internalId());
+            if (next != null) enqueue(next, queue, queued);
+        }
+
+        return changes;
+    }
+
+    private static void enqueue(List<DerivedValue> values, PriorityQueue<DerivedValue> queue, Set<DerivedValue> queued) {
+        for (final DerivedValue value : values) {
+            if (queued.add(value)) queue.add(value);
+        }
+    }
+
+    static final class Change {
+
+        final DerivedValue value;
+        final Object oldValue, newValue;
+
+        Change(DerivedValue value, Object oldValue, Object newValue) {
+            this.value = value;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package me.devnatan.inventoryframework.state;
+
+import java.util.Objects;
+import java.util.function.Function;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Value derived from the values of a fixed set of {@link #inputs input states} on the same host.
+ * <p>
+ * The derived value is computed once when initialized and then only recomputed by the
+ * {@link DerivedStateGraph derived state graph} of its host when one of its inputs changes, so
+ * reading it never runs the derivation. Values whose host has no graph are derived on every read.
+ * <p>
+ * Inputs are always read from the host this value was created for, so derived values must not be
+ * copied to another host but created again against it.
+ * <p>
+ * <b><i> This is an internal inventory-framework API that should not be used from outside of
+ * this library. No compatibility guarantees are provided. </i></b>
+ */
+@ApiStatus.Internal
+public final class DerivedValue extends AbstractStateValue {
+
+    private final StateValueHost host;
+    private final State<?>[] inputs;
+    private final Function<Object[], ?> derivation;
+
+    /**
+     * Length of the longest path from this value to an input that is not derived, values are
+     * always recomputed after all the derived values they depend on.
+     */
+    private final int rank;
+
+    private volatile Object currValue;
+    private boolean tracked;
+
+    public DerivedValue(
+            long internalId,
+            @NotNull StateValueHost host,
+            @NotNull State<?>[] inputs,
+            @NotNull Function<Object[], ?> derivation) {
+        super(internalId);
+        this.host = host;
+        this.inputs = inputs;
+        this.derivation = derivation;
+
+        int rank = 0;
+        for (final State<?> input : inputs) {
+            final StateValue inputValue = host.getInternalStateValue(input);
+            if (inputValue instanceof DerivedValue) rank = Math.max(rank, ((DerivedValue) inputValue).rank + 1);
+        }
+
+        this.rank = rank;
+        this.currValue = derive();
+    }
+
+    @Override
+    public Object get() {
+        return tracked ? currValue : derive();
+    }
+
+    int getRank() {
+        return rank;
+    }
+
+    State<?>[] getInputs() {
+        return inputs;
+    }
+
+    /**
+     * Marks this value as kept up to date by the derived state graph of its host.
+     */
+    void markTracked() {
+        tracked = true;
+    }
+
+    /**
+     * Derives this value again from the current values of the inputs.
+     *
+     * @return The previous value or {@link DerivedStateGraph#UNCHANGED} if the derived value is
+     * equal to the previous one.
+     */
+    Object recompute() {
+        final Object oldValue = currValue;
+        final Object newValue = derive();
+        if (Objects.equals(oldValue, newValue)) return DerivedStateGraph.UNCHANGED;
+
+        currValue = newValue;
+        return oldValue;
+    }
+
+    private Object derive() {
+        final Object[] args = new Object[inputs.length];
+        for (int i = 0; i < inputs.length; i++)
+            args[i] = host.getInternalStateValue(inputs[i]).get();
+
+        return derivation.apply(args);
+    }
+
+    @Override
+    public String toString() {
+        return "DerivedValue{" + "derivation=" + derivation + ", rank=" + rank + ", currValue=" + currValue + "} "
+                + super.toString();
+    }
+}
@@ -0,0 +1,108 @@
+package me.devnatan.inventoryframework.state;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Stores each snapshot in its own file in a directory.
+ * <p>
+ * Snapshots are first written to a temporary file that then replaces the previous snapshot file,
+ * so a crash while saving never leaves a partially written snapshot behind.
+ *
+ * <p><b><i> This API is experimental and is not subject to the general compatibility guarantees
+ * such API may be changed or may be removed completely in any further release. </i></b>
+ */
+@ApiStatus.Experimental
+public final class FileStateSnapshotStore implements StateSnapshotStore {
+
+    private static final String FILE_EXTENSION = ".snapshot";
+
+    private final Path directory;
+    private final Predicate<String> classFilter;
+
+    /**
+     * Creates a new file-backed snapshot store.
+     * <p>
+     * Serializable values of loaded snapshots can be of any class, so the directory must only be
+     * writable by trusted sources, see {@link #FileStateSnapshotStore(Path, Predicate)}.
+     *
+     * @param directory The directory where snapshots files are stored, created if it doesn't exist.
+     */
+    public FileStateSnapshotStore(@NotNull Path directory) {
+        this(directory, className -> true);
+    }
+
+    /**
+     * Creates a new file-backed snapshot store that only allows serializable values of the classes
+     * accepted by the given filter to be deserialized from loaded snapshots.
+     *
+     * @param directory   The directory where snapshots files are stored, created if it doesn't exist.
+     * @param classFilter Predicate that tests if a class with the given name can be deserialized.
+     * @see StateSnapshot#readFrom(InputStream, Predicate)
+     */
+    public FileStateSnapshotStore(@NotNull Path directory, @NotNull Predicate<String> classFilter) {
+        this.directory = directory;
+        this.classFilter = classFilter;
+    }
+
+    private Path fileOf(String key) {
+        if (key.isEmpty() || !key.matches("[A-Za-z0-9._-]+") || key.startsWith("."))
+            throw new IllegalArgumentException("Invalid snapshot key: " + key);
+
+        return directory.resolve(key + FILE_EXTENSION);
+    }
+
+    @Override
+    public void save(@NotNull String key, @NotNull StateSnapshot snapshot) {
+        final Path file = fileOf(key);
+        try {
+            Files.createDirectories(directory);
+
+            final Path temporary = Files.createTempFile(directory, key, ".tmp");
+            try (final OutputStream output = Files.newOutputStream(temporary)) {
+                snapshot.writeTo(output);
+            } catch (final IOException exception) {
+                Files.deleteIfExists(temporary);
+                throw exception;
+            }
+
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException exception) {
+            throw new StateException("Failed to save state snapshot: " + key, exception);
+        }
+    }
+
+    @Override
+    public @Nullable StateSnapshot load(@NotNull String key) {
+        try (final InputStream input = Files.newInputStream(fileOf(key))) {
+            return StateSnapshot.readFrom(input, classFilter);
+        } catch (final NoSuchFileException exception) {
+            return null;
+        } catch (final IOException exception) {
+            throw new StateException("Failed to load state snapshot: " + key, exception);
+        }
+    }
+
+    @Override
+    public void delete(@NotNull String key) {
+        try {
+            Files.deleteIfExists(fileOf(key));
+        } catch (final IOException exception) {
+            throw new StateException("Failed to delete state snapshot: " + key, exception);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FileStateSnapshotStore{" + "directory=" + directory + '}';
+    }
+}
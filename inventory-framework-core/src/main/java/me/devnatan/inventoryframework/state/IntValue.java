@@ -0,0 +1,74 @@
+package me.devnatan.inventoryframework.state;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Mutable value holding a primitive {@code int} that can be read and updated atomically without
+ * boxing.
+ * <p>
+ * <b><i> This is an internal inventory-framework API that should not be used from outside of
+ * this library. No compatibility guarantees are provided. </i></b>
+ */
+@ApiStatus.Internal
+public final class IntValue extends AbstractStateValue {
+
+    private static final AtomicIntegerFieldUpdater<IntValue> UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(IntValue.class, "currValue");
+
+    private volatile int currValue;
+
+    public IntValue(long internalId, int currValue) {
+        super(internalId);
+        this.currValue = currValue;
+    }
+
+    @Override
+    public Object get() {
+        return currValue;
+    }
+
+    /**
+     * Sets the current value.
+     *
+     * @param value The new value.
+     * @throws StateException If the given value is {@code null}, since a primitive {@code int}
+     *                        cannot hold it.
+     */
+    @Override
+    public void set(Object value) {
+        if (value == null) throw new StateException("Primitive int state value cannot be set to null");
+        currValue = (Integer) value;
+    }
+
+    public int getAsInt() {
+        return currValue;
+    }
+
+    public int getAndAdd(int delta) {
+        return UPDATER.getAndAdd(this, delta);
+    }
+
+    public boolean compareAndSet(int expected, int update) {
+        return UPDATER.compareAndSet(this, expected, update);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        IntValue that = (IntValue) o;
+        return currValue == that.currValue;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + Integer.hashCode(currValue);
+    }
+
+    @Override
+    public String toString() {
+        return "IntValue{" + "currValue=" + currValue + "} " + super.toString();
+    }
+}
@@ -0,0 +1,74 @@
+package me.devnatan.inventoryframework.state;
+
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Watchers of a state kept in registration order in a doubly linked list whose nodes are the
+ * registrations themselves, so unregistering a watcher takes constant time regardless of how many
+ * watchers the state has.
+ * <p>
+ * Watchers can be registered and unregistered while the watchers are being notified, watchers
+ * unregistered during a notification that were not notified yet are skipped. Not thread-safe.
+ */
+final class LinkedStateWatchers {
+
+    private Node head, tail;
+
+    @NotNull
+    StateWatcherRegistration add(@NotNull StateWatcher watcher) {
+        final Node node = new Node(watcher);
+        if (tail == null) head = node;
+        else {
+            tail.next = node;
+            node.prev = tail;
+        }
+
+        tail = node;
+        return node;
+    }
+
+    void forEach(@NotNull Consumer<StateWatcher> action) {
+        Node node = head;
+        while (node != null) {
+            // captured before the call since the watcher may unregister itself
+            final Node next = node.next;
+            if (node.registered) action.accept(node.watcher);
+            node = next;
+        }
+    }
+
+    private final class Node implements StateWatcherRegistration {
+
+        private final StateWatcher watcher;
+        private Node prev, next;
+        private boolean registered = true;
+
+        Node(StateWatcher watcher) {
+            this.watcher = watcher;
+        }
+
+        @Override
+        public void unregister() {
+            if (!registered) return;
+            registered = false;
+
+            // "next" is kept so an ongoing iteration positioned on this node can move on
+            if (prev == null) head = next;
+            else prev.next = next;
+
+            if (next == null) tail = prev;
+            else next.prev = prev;
+        }
+
+        @Override
+        public boolean isRegistered() {
+            return registered;
+        }
+
+        @Override
+        public String toString() {
+            return "StateWatcherRegistration{" + "watcher=" + watcher + ", registered=" + registered + '}';
+        }
+    }
+}
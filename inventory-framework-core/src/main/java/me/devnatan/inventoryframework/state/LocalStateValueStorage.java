@@ -0,0 +1,69 @@
+package me.devnatan.inventoryframework.state;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Storage that must only be accessed by a single thread at a time, backed by maps with primitive
+ * state id keys and an array for slot values.
+ */
+final class LocalStateValueStorage extends StateValueStorage {
+
+    private final LongObjectMap<StateValue> values = new LongObjectMap<>();
+    private final LongObjectMap<LinkedStateWatchers> watchers = new LongObjectMap<>();
+    private StateValue[] slotValues;
+
+    @Override
+    void useSlotLayout(@NotNull StateSlotLayout layout) {
+        slotLayout = layout;
+        slotValues = new StateValue[layout.size()];
+    }
+
+    @Override
+    StateValue get(int slot, long stateId) {
+        return slot == -1 ? values.get(stateId) : slotValues[slot];
+    }
+
+    @Override
+    @NotNull
+    StateValue putIfAbsent(int slot, long stateId, @NotNull StateValue value) {
+        final StateValue current = get(slot, stateId);
+        if (current != null) return current;
+
+        put(slot, stateId, value);
+        return value;
+    }
+
+    @Override
+    void put(int slot, long stateId, @NotNull StateValue value) {
+        if (slot == -1) values.put(stateId, value);
+        else slotValues[slot] = value;
+    }
+
+    @Override
+    void forEach(@NotNull BiConsumer<Long, StateValue> action) {
+        if (slotValues != null) {
+            for (int slot = 0; slot < slotValues.length; slot++) {
+                if (slotValues[slot] != null) action.accept(slotLayout.idOf(slot), slotValues[slot]);
+            }
+        }
+
+        values.forEach(action);
+    }
+
+    @Override
+    void forEachWatcher(long stateId, @NotNull Consumer<StateWatcher> action) {
+        final LinkedStateWatchers stateWatchers = watchers.get(stateId);
+        if (stateWatchers != null) stateWatchers.forEach(action);
+    }
+
+    @Override
+    @NotNull
+    StateWatcherRegistration addWatcher(long stateId, @NotNull StateWatcher watcher) {
+        LinkedStateWatchers stateWatchers = watchers.get(stateId);
+        if (stateWatchers == null) watchers.put(stateId, stateWatchers = new LinkedStateWatchers());
+
+        return stateWatchers.add(watcher);
+    }
+}
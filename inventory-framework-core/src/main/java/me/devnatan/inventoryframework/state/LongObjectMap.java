@@ -0,0 +1,96 @@
+package me.devnatan.inventoryframework.state;
+
+import java.util.function.BiConsumer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Open-addressing hash map with primitive {@code long} keys and linear probing.
+ * <p>
+ * State ids are dense longs generated by {@link State#next()}, so keeping them unboxed in a flat
+ * array avoids allocating a {@link Long} and chasing a {@code HashMap} node on every lookup.
+ * Entries cannot be removed and {@code null} values are not supported. Not thread-safe.
+ *
+ * @param <V> The value type.
+ */
+final class LongObjectMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+    private int mask;
+
+    LongObjectMap() {
+        keys = new long[DEFAULT_CAPACITY];
+        values = new Object[DEFAULT_CAPACITY];
+        mask = DEFAULT_CAPACITY - 1;
+    }
+
+    private static int hash(long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private int slotOf(long key) {
+        int slot = hash(key) & mask;
+        while (values[slot] != null && keys[slot] != key) slot = (slot + 1) & mask;
+
+        return slot;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    V get(long key) {
+        return (V) values[slotOf(key)];
+    }
+
+    void put(long key, @NotNull V value) {
+        final int slot = slotOf(key);
+        if (values[slot] == null) {
+            keys[slot] = key;
+            values[slot] = value;
+            if (++size * 2 > values.length) resize();
+            return;
+        }
+
+        values[slot] = value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void resize() {
+        final long[] oldKeys = keys;
+        final Object[] oldValues = values;
+        final int capacity = oldValues.length * 2;
+
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] == null) continue;
+
+            final int slot = slotOf(oldKeys[i]);
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+    /**
+     * Calls the given action for each entry of this map, boxing the keys.
+     *
+     * @param action The action to be called for each entry.
+     */
+    @SuppressWarnings("unchecked")
+    void forEach(@NotNull BiConsumer<Long, ? super V> action) {
+        final long[] keys = this.keys;
+        final Object[] values = this.values;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) action.accept(keys[i], (V) values[i]);
+        }
+    }
+}
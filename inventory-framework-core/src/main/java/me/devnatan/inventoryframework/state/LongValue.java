@@ -0,0 +1,74 @@
+package me.devnatan.inventoryframework.state;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Mutable value holding a primitive {@code long} that can be read and updated atomically without
+ * boxing.
+ * <p>
+ * <b><i> This is an internal inventory-framework API that should not be used from outside of
+ * this library. No compatibility guarantees are provided. </i></b>
+ */
+@ApiStatus.Internal
+public final class LongValue extends AbstractStateValue {
+
+    private static final AtomicLongFieldUpdater<LongValue> UPDATER =
+            AtomicLongFieldUpdater.newUpdater(LongValue.class, "currValue");
+
+    private volatile long currValue;
+
+    public LongValue(long internalId, long currValue) {
+        super(internalId);
+        this.currValue = currValue;
+    }
+
+    @Override
+    public Object get() {
+        return currValue;
+    }
+
+    /**
+     * Sets the current value.
+     *
+     * @param value The new value.
+     * @throws StateException If the given value is {@code null}, since a primitive {@code long}
+     *                        cannot hold it.
+     */
+    @Override
+    public void set(Object value) {
+        if (value == null) throw new StateException("Primitive long state value cannot be set to null");
+        currValue = (Long) value;
+    }
+
+    public long getAsLong() {
+        return currValue;
+    }
+
+    public long getAndAdd(long delta) {
+        return UPDATER.getAndAdd(this, delta);
+    }
+
+    public boolean compareAndSet(long expected, long update) {
+        return UPDATER.compareAndSet(this, expected, update);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        LongValue that = (LongValue) o;
+        return currValue == that.currValue;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + Long.hashCode(currValue);
+    }
+
+    @Override
+    public String toString() {
+        return "LongValue{" + "currValue=" + currValue + "} " + super.toString();
+    }
+}
@@ -0,0 +1,131 @@
+package me.devnatan.inventoryframework.state;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Computed value that caches the value returned by its {@link MemoizedValue#computation} until one
+ * of the states read during the computation is set.
+ * <p>
+ * Dependencies are the states read from the {@link MemoizedValue#host host} while the value is
+ * being computed, they're tracked through {@link StateWatcher#stateValueGet} and this value is
+ * then registered as a watcher of each one of them to be invalidated when they change. States
+ * read from other hosts are not tracked.
+ * <p>
+ * <b><i> This is an internal inventory-framework API that should not be used from outside of
+ * this library. No compatibility guarantees are provided. </i></b>
+ */
+@ApiStatus.Internal
+public final class MemoizedValue extends AbstractStateValue implements StateWatcher {
+
+    private static final Object INVALID = new Object();
+
+    private final StateValueHost host;
+    private final Supplier<?> computation;
+    private final Set<Long> dependencies = ConcurrentHashMap.newKeySet();
+    private volatile Object currValue = INVALID;
+
+    /**
+     * Incremented on every invalidation, a computed value is only cached if this value was not
+     * invalidated while it was being computed. Guarded by this value monitor.
+     */
+    private long generation;
+
+    /**
+     * Number of computations in progress. Guarded by this value monitor.
+     */
+    private int computations;
+
+    public MemoizedValue(long internalId, @NotNull StateValueHost host, @NotNull Supplier<?> computation) {
+        super(internalId);
+        this.host = host;
+        this.computation = computation;
+    }
+
+    @Override
+    public Object get() {
+        final Object value = currValue;
+        if (value != INVALID) return value;
+
+        // without a host capable of tracking reads dependencies are unknown so nothing is cached
+        if (!(host instanceof DefaultStateValueHost)) return computation.get();
+
+        final long computedGeneration;
+        synchronized (this) {
+            computedGeneration = generation;
+            computations++;
+        }
+
+        final DefaultStateValueHost trackingHost = (DefaultStateValueHost) host;
+        final StateWatcher previousTracker = trackingHost.trackDependencies(this);
+        Object computed = INVALID;
+        try {
+            computed = computation.get();
+        } finally {
+            trackingHost.trackDependencies(previousTracker);
+            synchronized (this) {
+                computations--;
+
+                // a dependency set while computing may not be reflected by the computed value
+                if (computed != INVALID && generation == computedGeneration) currValue = computed;
+            }
+        }
+
+        return computed;
+    }
+
+    @Override
+    public void stateRegistered(@NotNull State<?> state, Object caller) {}
+
+    @Override
+    public void stateUnregistered(@NotNull State<?> state, Object caller) {}
+
+    @Override
+    public void stateValueGet(
+            @NotNull State<?> state,
+            @NotNull StateValueHost host,
+            @NotNull StateValue internalValue,
+            Object rawValue) {
+        final long dependencyId = internalValue.internalId();
+        if (dependencyId == internalId() || !(host instanceof DefaultStateValueHost)) return;
+
+        // also called as a watcher of dependencies so only track reads made while computing
+        if (!((DefaultStateValueHost) host).isTrackingDependencies(this) || !dependencies.add(dependencyId)) return;
+
+        host.watchState(dependencyId, this);
+    }
+
+    @Override
+    public void stateValueSet(
+            @NotNull StateValueHost host, @NotNull StateValue value, Object rawOldValue, Object rawNewValue) {
+        if (value.internalId() == internalId()) return;
+
+        final Object oldValue;
+        final boolean computing;
+        synchronized (this) {
+            oldValue = currValue;
+            computing = computations != 0;
+            generation++;
+            currValue = INVALID;
+        }
+
+        // values computed from a value being computed may have been cached by its watchers
+        if (oldValue == INVALID && !computing) return;
+
+        // propagates the invalidation to watchers of this value, such as memoized values depending on it
+        final Object invalidatedValue = oldValue == INVALID ? null : oldValue;
+        if (this.host instanceof DefaultStateValueHost)
+            ((DefaultStateValueHost) this.host)
+                    .notifyStateValueSet(
+                            this, listener -> listener.stateValueSet(this.host, this, invalidatedValue, null));
+    }
+
+    @Override
+    public String toString() {
+        return "MemoizedValue{" + "computation=" + computation + ", currValue=" + currValue + ", dependencies="
+                + dependencies + "} " + super.toString();
+    }
+}
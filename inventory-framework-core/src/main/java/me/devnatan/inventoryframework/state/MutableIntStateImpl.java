@@ -16,17 +16,48 @@ public final class MutableIntStateImpl extends BaseMutableState<Integer> impleme
 
     @Override
     public int increment(@NotNull StateValueHost host) {
-        return update(host, 1);
+        return addAndGet(1, host);
     }
 
     @Override
     public int decrement(@NotNull StateValueHost host) {
-        return update(host, -1);
+        return addAndGet(-1, host);
     }
 
-    private int update(@NotNull StateValueHost host, int diff) {
-        final int curr = get(host);
-        set(curr + diff, host);
-        return curr + diff;
+    @Override
+    public int getAsInt(@NotNull StateValueHost host) {
+        final StateValue value = host.getInternalStateValue(this);
+        if (value instanceof IntValue) return ((IntValue) value).getAsInt();
+
+        return get(host);
+    }
+
+    @Override
+    public int addAndGet(int delta, @NotNull StateValueHost host) {
+        final StateValue value = host.getInternalStateValue(this);
+        if (!(value instanceof IntValue)) {
+            final int updated = get(host) + delta;
+            set(updated, host);
+            return updated;
+        }
+
+        final int previous = ((IntValue) value).getAndAdd(delta);
+        host.primitiveStateUpdated(value, previous, previous + delta);
+        return previous + delta;
+    }
+
+    @Override
+    public boolean compareAndSet(int expected, int update, @NotNull StateValueHost host) {
+        final StateValue value = host.getInternalStateValue(this);
+        if (!(value instanceof IntValue)) {
+            if (get(host) != expected) return false;
+            set(update, host);
+            return true;
+        }
+
+        if (!((IntValue) value).compareAndSet(expected, update)) return false;
+
+        host.primitiveStateUpdated(value, expected, update);
+        return true;
     }
 }
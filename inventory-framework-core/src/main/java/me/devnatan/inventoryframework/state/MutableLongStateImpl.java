@@ -0,0 +1,63 @@
+package me.devnatan.inventoryframework.state;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <b><i> This is an internal inventory-framework API that should not be used from outside of
+ * this library. No compatibility guarantees are provided. </i></b>
+ */
+@ApiStatus.Internal
+public final class MutableLongStateImpl extends BaseMutableState<Long> implements MutableLongState {
+
+    public MutableLongStateImpl(long id, @NotNull StateValueFactory valueFactory) {
+        super(id, valueFactory);
+    }
+
+    @Override
+    public long increment(@NotNull StateValueHost host) {
+        return addAndGet(1L, host);
+    }
+
+    @Override
+    public long decrement(@NotNull StateValueHost host) {
+        return addAndGet(-1L, host);
+    }
+
+    @Override
+    public long getAsLong(@NotNull StateValueHost host) {
+        final StateValue value = host.getInternalStateValue(this);
+        if (value instanceof LongValue) return ((LongValue) value).getAsLong();
+
+        return get(host);
+    }
+
+    @Override
+    public long addAndGet(long delta, @NotNull StateValueHost host) {
+        final StateValue value = host.getInternalStateValue(this);
+        if (!(value instanceof LongValue)) {
+            final long updated = get(host) + delta;
+            set(updated, host);
+            return updated;
+        }
+
+        final long previous = ((LongValue) value).getAndAdd(delta);
+        host.primitiveStateUpdated(value, previous, previous + delta);
+        return previous + delta;
+    }
+
+    @Override
+    public boolean compareAndSet(long expected, long update, @NotNull StateValueHost host) {
+        final StateValue value = host.getInternalStateValue(this);
+        if (!(value instanceof LongValue)) {
+            if (get(host) != expected) return false;
+            set(update, host);
+            return true;
+        }
+
+        if (!((LongValue) value).compareAndSet(expected, update)) return false;
+
+        host.primitiveStateUpdated(value, expected, update);
+        return true;
+    }
+}
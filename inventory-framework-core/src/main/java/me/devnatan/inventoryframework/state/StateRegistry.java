@@ -1,14 +1,21 @@
 package me.devnatan.inventoryframework.state;
 
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
+import java.util.function.Consumer;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
- * HashMap-backed state container to store a collection of states.
+ * Copy-on-write array-backed state container to store a collection of states.
+ * <p>
+ * States are registered while the owner of the registry is being set up, so registering or
+ * unregistering a state copies the states array and iterating over the registry reads the array
+ * without any locking. Once {@link #freeze() frozen} each registered state has a slot assigned,
+ * states can still be registered afterward but they have no slot so their values are stored by
+ * state id instead.
  *
  * <b><i> This is an internal inventory-framework API that should not be used from outside of
  * this library. No compatibility guarantees are provided. </i></b>
@@ -16,7 +23,17 @@ import org.jetbrains.annotations.NotNull;
 @ApiStatus.Internal
 public final class StateRegistry implements Iterable<State<?>> {
 
-    private final Map<Long, State<?>> stateMap = new HashMap<>();
+    private static final State<?>[] NO_STATES = new State<?>[0];
+    private static final StateWatcher[] NO_WATCHERS = new StateWatcher[0];
+
+    private volatile State<?>[] states = NO_STATES;
+
+    /**
+     * Registered states that are also {@link StateWatcher watchers}.
+     */
+    private volatile StateWatcher[] watchers = NO_WATCHERS;
+
+    private volatile StateSlotLayout slotLayout;
 
     /**
      * Adds a new state to the states' collection.
@@ -24,8 +41,20 @@ public final class StateRegistry implements Iterable<State<?>> {
      * @param state The state to be added.
      */
     public void registerState(@NotNull State<?> state, Object caller) {
-        synchronized (stateMap) {
-            stateMap.put(state.internalId(), state);
+        synchronized (this) {
+            final int index = indexOf(state.internalId());
+            if (index == -1) {
+                final State<?>[] current = states;
+                final State<?>[] updated = Arrays.copyOf(current, current.length + 1);
+                updated[current.length] = state;
+                states = updated;
+            } else {
+                final State<?>[] updated = states.clone();
+                updated[index] = state;
+                states = updated;
+            }
+
+            watchers = collectWatchers(states);
             if (state instanceof StateWatcher) ((StateWatcher) state).stateRegistered(state, caller);
         }
     }
@@ -36,15 +65,112 @@ public final class StateRegistry implements Iterable<State<?>> {
      * @param stateId The id of the state to be removed.
      */
     public void unregisterState(long stateId, Object caller) {
-        synchronized (stateMap) {
-            final State<?> state = stateMap.remove(stateId);
+        synchronized (this) {
+            final int index = indexOf(stateId);
+            if (index == -1) return;
+
+            final State<?>[] current = states;
+            final State<?> state = current[index];
+            final State<?>[] updated = new State<?>[current.length - 1];
+            System.arraycopy(current, 0, updated, 0, index);
+            System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+            states = updated;
+
+            watchers = collectWatchers(updated);
             if (state instanceof StateWatcher) ((StateWatcher) state).stateUnregistered(state, caller);
         }
     }
 
+    private int indexOf(long stateId) {
+        final State<?>[] current = states;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i].internalId() == stateId) return i;
+        }
+        return -1;
+    }
+
+    private static StateWatcher[] collectWatchers(State<?>[] states) {
+        int count = 0;
+        for (final State<?> state : states) {
+            if (state instanceof StateWatcher) count++;
+        }
+
+        if (count == 0) return NO_WATCHERS;
+
+        final StateWatcher[] watchers = new StateWatcher[count];
+        int index = 0;
+        for (final State<?> state : states) {
+            if (state instanceof StateWatcher) watchers[index++] = (StateWatcher) state;
+        }
+        return watchers;
+    }
+
+    /**
+     * Assigns a slot to each registered state and returns the resulting layout.
+     * <p>
+     * States registered after this registry is frozen have no slot in the layout, their values
+     * are stored by state id. Freezing an already frozen registry returns the existing layout.
+     *
+     * @return The slot layout of this registry.
+     */
+    public @NotNull StateSlotLayout freeze() {
+        synchronized (this) {
+            if (slotLayout != null) return slotLayout;
+
+            final State<?>[] current = states;
+            final long[] ids = new long[current.length];
+            int count = 0;
+            for (final State<?> state : current) {
+                if (state instanceof BaseState) ids[count++] = state.internalId();
+            }
+
+            final StateSlotLayout layout = new StateSlotLayout(Arrays.copyOf(ids, count));
+            for (final State<?> state : current) {
+                if (state instanceof BaseState)
+                    ((BaseState<?>) state).assignSlot(layout, layout.slotOf(state.internalId()));
+            }
+
+            return slotLayout = layout;
+        }
+    }
+
+    /**
+     * The slot layout of this registry.
+     *
+     * @return The slot layout or {@code null} if this registry was not {@link #freeze() frozen}.
+     */
+    public @Nullable StateSlotLayout getSlotLayout() {
+        return slotLayout;
+    }
+
+    /**
+     * Calls the given action for each registered state that is a {@link StateWatcher}.
+     *
+     * @param action The action to be called for each watcher.
+     */
+    public void forEachWatcher(@NotNull Consumer<StateWatcher> action) {
+        for (final StateWatcher watcher : watchers) action.accept(watcher);
+    }
+
+    /**
+     * Registered states in registration order, must not be modified.
+     */
+    State<?>[] getStates() {
+        return states;
+    }
+
+    /**
+     * Number of registered states.
+     *
+     * @return The amount of states in this registry.
+     */
+    public int size() {
+        return states.length;
+    }
+
     @NotNull
     @Override
     public Iterator<State<?>> iterator() {
-        return Collections.unmodifiableCollection(stateMap.values()).iterator();
+        return Collections.unmodifiableList(Arrays.asList(states)).iterator();
     }
 }
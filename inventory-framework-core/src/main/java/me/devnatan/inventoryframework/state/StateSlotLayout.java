@@ -0,0 +1,55 @@
+package me.devnatan.inventoryframework.state;
+
+import java.util.Arrays;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Compact slot assignment of the states of a {@link StateRegistry#freeze() frozen} registry.
+ * <p>
+ * Each state gets a small integer slot so hosts using this layout can store the values of these
+ * states in an array of exactly {@link #size()} elements instead of a map keyed by state id.
+ *
+ * <b><i> This is an internal inventory-framework API that should not be used from outside of
+ * this library. No compatibility guarantees are provided. </i></b>
+ */
+@ApiStatus.Internal
+public final class StateSlotLayout {
+
+    private final long[] ids;
+
+    StateSlotLayout(@NotNull long[] ids) {
+        Arrays.sort(ids);
+        this.ids = ids;
+    }
+
+    /**
+     * Number of slots in this layout.
+     *
+     * @return The amount of states that have a slot in this layout.
+     */
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Slot of the state with the given id.
+     *
+     * @param stateId The state id.
+     * @return The slot of the state or {@code -1} if the state has no slot in this layout.
+     */
+    int slotOf(long stateId) {
+        final int slot = Arrays.binarySearch(ids, stateId);
+        return slot < 0 ? -1 : slot;
+    }
+
+    /**
+     * Id of the state in the given slot.
+     *
+     * @param slot The slot.
+     * @return The id of the state that owns the slot.
+     */
+    long idOf(int slot) {
+        return ids[slot];
+    }
+}
@@ -0,0 +1,449 @@
+package me.devnatan.inventoryframework.state;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import me.devnatan.inventoryframework.IFDebug;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Detached copy of the mutable and initial data state values of a host, that can be written to a
+ * compact binary form and restored into another host of the same view, even after a restart.
+ * <p>
+ * State ids are generated at runtime so values are identified by the position of their states in
+ * the {@link StateRegistry registry} of the view, that is, the order in which states are declared.
+ * A snapshot can only be restored into a view whose states are declared in the same order.
+ * <p>
+ * Only values of {@link MutableState mutable states}, including {@link MutableIntState int} and
+ * {@link MutableLongState long} states, and initial data states are captured, every other state
+ * value can be computed again from them. Values must be {@code null}, a primitive wrapper,
+ * a {@link String} or {@link Serializable}, values that fail to be serialized, e.g.: because they
+ * reference a value that is not serializable, are not captured.
+ * <p>
+ * Serializable values are serialized when captured and deserialized again each time the snapshot
+ * is restored so every host gets its own copy of them. Deserialization can instantiate any class
+ * available, so snapshots read from untrusted sources must be read with a class filter, see
+ * {@link #readFrom(InputStream, Predicate)}.
+ *
+ * <p><b><i> This API is experimental and is not subject to the general compatibility guarantees
+ * such API may be changed or may be removed completely in any further release. </i></b>
+ */
+@ApiStatus.Experimental
+public final class StateSnapshot {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final byte KIND_VALUE = 0;
+    private static final byte KIND_INITIAL_DATA = 1;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_TRUE = 1;
+    private static final byte TYPE_FALSE = 2;
+    private static final byte TYPE_INT = 3;
+    private static final byte TYPE_LONG = 4;
+    private static final byte TYPE_DOUBLE = 5;
+    private static final byte TYPE_STRING = 6;
+    private static final byte TYPE_SERIALIZED = 7;
+    private static final byte TYPE_LONG_STRING = 8;
+
+    /**
+     * Strings with up to this length always fit in {@link DataOutputStream#writeUTF(String)} since
+     * each character is encoded with at most three bytes.
+     */
+    private static final int MAX_SHORT_STRING_LENGTH = 0xFFFF / 3;
+
+    private final int stateCount;
+    private final int[] indexes;
+    private final byte[] kinds;
+    private final Object[] values;
+    private final Predicate<String> classFilter;
+
+    private StateSnapshot(
+            int stateCount, int[] indexes, byte[] kinds, Object[] values, Predicate<String> classFilter) {
+        this.stateCount = stateCount;
+        this.indexes = indexes;
+        this.kinds = kinds;
+        this.values = values;
+        this.classFilter = classFilter;
+    }
+
+    /**
+     * Captures the current values of the states of the given registry in a host.
+     * <p>
+     * Values that were not initialized in the host yet are not captured.
+     *
+     * @param registry The registry of the states to be captured.
+     * @param host     The host to capture the values from.
+     * @return A snapshot of the state values.
+     */
+    public static @NotNull StateSnapshot capture(@NotNull StateRegistry registry, @NotNull StateValueHost host) {
+        final State<?>[] states = registry.getStates();
+        final List<Integer> indexes = new ArrayList<>();
+        final List<Byte> kinds = new ArrayList<>();
+        final List<Object> values = new ArrayList<>();
+
+        for (int index = 0; index < states.length; index++) {
+            final StateValue value = host.getUninitializedStateValue(states[index].internalId());
+            final byte kind;
+            if (value instanceof MutableValue || value instanceof IntValue || value instanceof LongValue)
+                kind = KIND_VALUE;
+            else if (value instanceof InitialDataStateValue) kind = KIND_INITIAL_DATA;
+            else continue;
+
+            final Object raw = value.get();
+            final Object captured;
+            try {
+                captured = captureValue(raw);
+            } catch (final IOException exception) {
+                IFDebug.debug(
+                        "State %s not captured in snapshot (value = %s): %s", value.internalId(), raw, exception);
+                continue;
+            }
+
+            indexes.add(index);
+            kinds.add(kind);
+            values.add(captured);
+        }
+
+        final int[] indexesArray = new int[indexes.size()];
+        final byte[] kindsArray = new byte[kinds.size()];
+        for (int i = 0; i < indexesArray.length; i++) {
+            indexesArray[i] = indexes.get(i);
+            kindsArray[i] = kinds.get(i);
+        }
+
+        return new StateSnapshot(states.length, indexesArray, kindsArray, values.toArray(), className -> true);
+    }
+
+    /**
+     * Values that are not written directly are serialized upfront so values that are not fully
+     * serializable are detected while capturing and not when the snapshot is written.
+     */
+    private static Object captureValue(Object value) throws IOException {
+        if (value == null
+                || value instanceof Boolean
+                || value instanceof Integer
+                || value instanceof Long
+                || value instanceof Double
+                || value instanceof String) return value;
+
+        if (!(value instanceof Serializable))
+            throw new NotSerializableException(value.getClass().getName());
+
+        final ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (final ObjectOutputStream objects = new ObjectOutputStream(serialized)) {
+            objects.writeObject(value);
+        }
+
+        return new SerializedValue(serialized.toByteArray());
+    }
+
+    /**
+     * Initializes the values captured in this snapshot in the given host.
+     * <p>
+     * Must be called before the captured states are initialized in the host, e.g.: before the
+     * context is rendered, watchers are not notified about restored values.
+     *
+     * @param registry The registry of the states to be restored.
+     * @param host     The host to restore the values into.
+     * @throws StateException If the registry states differ from the states this snapshot was captured from
+     *                        or a captured value could not be deserialized.
+     */
+    public void restore(@NotNull StateRegistry registry, @NotNull StateValueHost host) {
+        final State<?>[] states = registry.getStates();
+        if (states.length != stateCount)
+            throw new StateException(String.format(
+                    "Snapshot was captured from %d states but there are %d states", stateCount, states.length));
+
+        for (int i = 0; i < indexes.length; i++) {
+            final State<?> state = states[indexes[i]];
+            final long id = state.internalId();
+            final Object raw = restoreValue(values[i]);
+            final StateValue value;
+            if (kinds[i] == KIND_INITIAL_DATA) value = new MutableValue(id, raw);
+            else {
+                value = state.factory().create(host, state);
+                value.set(raw);
+            }
+
+            host.initializeState(id, value);
+        }
+    }
+
+    private Object restoreValue(Object value) {
+        if (!(value instanceof SerializedValue)) return value;
+
+        final byte[] serialized = ((SerializedValue) value).bytes;
+        try (final ObjectInputStream objects =
+                new FilteredObjectInputStream(new ByteArrayInputStream(serialized), classFilter)) {
+            return objects.readObject();
+        } catch (final IOException | ClassNotFoundException exception) {
+            throw new StateException("Failed to restore state snapshot value", exception);
+        }
+    }
+
+    /**
+     * Number of state values captured in this snapshot.
+     *
+     * @return The amount of captured state values.
+     */
+    public int size() {
+        return indexes.length;
+    }
+
+    /**
+     * Writes this snapshot in its binary form.
+     *
+     * @param output The output stream, not closed by this method.
+     * @throws IOException If an I/O error occurs.
+     */
+    public void writeTo(@NotNull OutputStream output) throws IOException {
+        final DataOutputStream data = new DataOutputStream(output);
+        data.writeByte(FORMAT_VERSION);
+        data.writeInt(stateCount);
+        data.writeInt(indexes.length);
+
+        for (int i = 0; i < indexes.length; i++) {
+            data.writeInt(indexes[i]);
+            data.writeByte(kinds[i]);
+            writeValue(data, values[i]);
+        }
+
+        data.flush();
+    }
+
+    /**
+     * Reads a snapshot from its binary form.
+     * <p>
+     * Serializable values of the snapshot can be of any class when restored, only use this method
+     * for snapshots from trusted sources, see {@link #readFrom(InputStream, Predicate)}.
+     *
+     * @param input The input stream, not closed by this method.
+     * @return The snapshot read from the input.
+     * @throws IOException If an I/O error occurs or the input is not a snapshot.
+     */
+    public static @NotNull StateSnapshot readFrom(@NotNull InputStream input) throws IOException {
+        return readFrom(input, className -> true);
+    }
+
+    /**
+     * Reads a snapshot from its binary form, only allowing serializable values of the classes
+     * accepted by the given filter to be deserialized when restored.
+     * <p>
+     * The filter is called with the name of every class found while deserializing a value,
+     * including classes of the value fields, array classes (e.g.: {@code [Ljava.lang.String;})
+     * and interfaces of proxy classes, restoring fails if any of them is rejected.
+     *
+     * @param input       The input stream, not closed by this method.
+     * @param classFilter Predicate that tests if a class with the given name can be deserialized.
+     * @return The snapshot read from the input.
+     * @throws IOException If an I/O error occurs or the input is not a snapshot.
+     */
+    public static @NotNull StateSnapshot readFrom(
+            @NotNull InputStream input, @NotNull Predicate<String> classFilter) throws IOException {
+        final DataInputStream data = new DataInputStream(input);
+        final int version = data.readUnsignedByte();
+        if (version != FORMAT_VERSION) throw new IOException("Unsupported state snapshot format version: " + version);
+
+        // validated before allocating anything so a corrupt input can't exhaust the memory
+        final int stateCount = data.readInt();
+        if (stateCount < 0) throw new IOException("Invalid state snapshot states count: " + stateCount);
+
+        final int size = data.readInt();
+        if (size < 0 || size > stateCount)
+            throw new IOException(String.format("Invalid state snapshot size %d for %d states", size, stateCount));
+
+        final int[] indexes = new int[size];
+        final byte[] kinds = new byte[size];
+        final Object[] values = new Object[size];
+
+        for (int i = 0; i < size; i++) {
+            final int index = data.readInt();
+            if (index < 0 || index >= stateCount)
+                throw new IOException(String.format("Invalid state index %d for %d states", index, stateCount));
+
+            indexes[i] = index;
+            kinds[i] = data.readByte();
+            values[i] = readValue(data);
+        }
+
+        return new StateSnapshot(stateCount, indexes, kinds, values, classFilter);
+    }
+
+    /**
+     * Binary form of this snapshot.
+     *
+     * @return A new byte array with this snapshot written to.
+     */
+    public byte @NotNull [] toByteArray() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            writeTo(output);
+        } catch (final IOException exception) {
+            throw new StateException("Failed to write state snapshot", exception);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Reads a snapshot from its binary form.
+     * <p>
+     * Serializable values of the snapshot can be of any class when restored, only use this method
+     * for snapshots from trusted sources, see {@link #fromByteArray(byte[], Predicate)}.
+     *
+     * @param bytes The binary form of the snapshot.
+     * @return The snapshot read from the given bytes.
+     * @throws StateException If the given bytes are not a snapshot.
+     */
+    public static @NotNull StateSnapshot fromByteArray(byte @NotNull [] bytes) {
+        return fromByteArray(bytes, className -> true);
+    }
+
+    /**
+     * Reads a snapshot from its binary form, only allowing serializable values of the classes
+     * accepted by the given filter to be deserialized when restored.
+     *
+     * @param bytes       The binary form of the snapshot.
+     * @param classFilter Predicate that tests if a class with the given name can be deserialized.
+     * @return The snapshot read from the given bytes.
+     * @throws StateException If the given bytes are not a snapshot.
+     * @see #readFrom(InputStream, Predicate)
+     */
+    public static @NotNull StateSnapshot fromByteArray(
+            byte @NotNull [] bytes, @NotNull Predicate<String> classFilter) {
+        try {
+            return readFrom(new ByteArrayInputStream(bytes), classFilter);
+        } catch (final IOException exception) {
+            throw new StateException("Failed to read state snapshot", exception);
+        }
+    }
+
+    private static void writeValue(DataOutputStream data, Object value) throws IOException {
+        if (value == null) data.writeByte(TYPE_NULL);
+        else if (value instanceof Boolean) data.writeByte((Boolean) value ? TYPE_TRUE : TYPE_FALSE);
+        else if (value instanceof Integer) {
+            data.writeByte(TYPE_INT);
+            data.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            data.writeByte(TYPE_LONG);
+            data.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            data.writeByte(TYPE_DOUBLE);
+            data.writeDouble((Double) value);
+        } else if (value instanceof String) {
+            final String string = (String) value;
+            if (string.length() <= MAX_SHORT_STRING_LENGTH) {
+                data.writeByte(TYPE_STRING);
+                data.writeUTF(string);
+            } else {
+                // too long to be written as modified UTF-8, that is limited to 64KB
+                final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                data.writeByte(TYPE_LONG_STRING);
+                data.writeInt(bytes.length);
+                data.write(bytes);
+            }
+        } else {
+            final byte[] serialized = ((SerializedValue) value).bytes;
+            data.writeByte(TYPE_SERIALIZED);
+            data.writeInt(serialized.length);
+            data.write(serialized);
+        }
+    }
+
+    private static Object readValue(DataInputStream data) throws IOException {
+        final byte type = data.readByte();
+        switch (type) {
+            case TYPE_NULL:
+                return null;
+            case TYPE_TRUE:
+                return Boolean.TRUE;
+            case TYPE_FALSE:
+                return Boolean.FALSE;
+            case TYPE_INT:
+                return data.readInt();
+            case TYPE_LONG:
+                return data.readLong();
+            case TYPE_DOUBLE:
+                return data.readDouble();
+            case TYPE_STRING:
+                return data.readUTF();
+            case TYPE_LONG_STRING:
+                return new String(readBytes(data), StandardCharsets.UTF_8);
+            case TYPE_SERIALIZED:
+                return new SerializedValue(readBytes(data));
+            default:
+                throw new IOException("Unknown state value type: " + type);
+        }
+    }
+
+    private static byte[] readBytes(DataInputStream data) throws IOException {
+        final int length = data.readInt();
+        if (length < 0) throw new IOException("Invalid state value length: " + length);
+
+        final byte[] bytes = new byte[length];
+        data.readFully(bytes);
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return "StateSnapshot{" + "stateCount=" + stateCount + ", size=" + size() + '}';
+    }
+
+    /**
+     * Serialized form of a {@link Serializable} captured value.
+     */
+    private static final class SerializedValue {
+        final byte[] bytes;
+
+        SerializedValue(byte[] bytes) {
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * Object input stream that rejects classes that are not accepted by a filter before they are
+     * loaded.
+     */
+    private static final class FilteredObjectInputStream extends ObjectInputStream {
+        private final Predicate<String> classFilter;
+
+        FilteredObjectInputStream(InputStream input, Predicate<String> classFilter) throws IOException {
+            super(input);
+            this.classFilter = classFilter;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            if (!classFilter.test(desc.getName()))
+                throw new InvalidClassException(desc.getName(), "Rejected by state snapshot class filter");
+
+            return super.resolveClass(desc);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(String[] interfaces) throws IOException, ClassNotFoundException {
+            for (final String name : interfaces) {
+                if (!classFilter.test(name))
+                    throw new InvalidClassException(name, "Rejected by state snapshot class filter");
+            }
+
+            return super.resolveProxyClass(interfaces);
+        }
+    }
+}
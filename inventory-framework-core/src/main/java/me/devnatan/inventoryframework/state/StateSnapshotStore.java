@@ -0,0 +1,42 @@
+package me.devnatan.inventoryframework.state;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Storage of {@link StateSnapshot state snapshots} identified by a key.
+ *
+ * <p><b><i> This API is experimental and is not subject to the general compatibility guarantees
+ * such API may be changed or may be removed completely in any further release. </i></b>
+ */
+@ApiStatus.Experimental
+public interface StateSnapshotStore {
+
+    /**
+     * Saves a snapshot, replacing the snapshot previously saved with the same key.
+     *
+     * @param key      The snapshot key.
+     * @param snapshot The snapshot.
+     * @throws StateException If the snapshot could not be saved.
+     */
+    void save(@NotNull String key, @NotNull StateSnapshot snapshot);
+
+    /**
+     * Loads a previously saved snapshot.
+     *
+     * @param key The snapshot key.
+     * @return The snapshot saved with the given key or {@code null} if there's none.
+     * @throws StateException If the snapshot could not be loaded.
+     */
+    @Nullable
+    StateSnapshot load(@NotNull String key);
+
+    /**
+     * Deletes a previously saved snapshot, does nothing if there's no snapshot with the given key.
+     *
+     * @param key The snapshot key.
+     * @throws StateException If the snapshot could not be deleted.
+     */
+    void delete(@NotNull String key);
+}
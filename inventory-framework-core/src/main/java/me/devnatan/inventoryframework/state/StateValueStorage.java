@@ -0,0 +1,62 @@
+package me.devnatan.inventoryframework.state;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Storage of the state values and watchers of a {@link DefaultStateValueHost}.
+ * <p>
+ * Values of states that have a slot in the {@link StateSlotLayout slot layout} in use are stored
+ * by slot, all others are stored by state id.
+ */
+abstract class StateValueStorage {
+
+    protected StateSlotLayout slotLayout;
+
+    /**
+     * Stores the values of the states of the given layout by state slot.
+     *
+     * @param layout The slot layout.
+     */
+    abstract void useSlotLayout(@NotNull StateSlotLayout layout);
+
+    /**
+     * Slot of the given state in the layout in use.
+     *
+     * @param state The state.
+     * @return The slot of the state or {@code -1} if the state has no slot.
+     */
+    final int slotOf(@NotNull State<?> state) {
+        if (slotLayout == null || !(state instanceof BaseState)) return -1;
+        return ((BaseState<?>) state).slotIn(slotLayout);
+    }
+
+    /**
+     * Slot of the state with the given id in the layout in use.
+     *
+     * @param stateId The state id.
+     * @return The slot of the state or {@code -1} if the state has no slot.
+     */
+    final int slotOf(long stateId) {
+        return slotLayout == null ? -1 : slotLayout.slotOf(stateId);
+    }
+
+    abstract @Nullable StateValue get(int slot, long stateId);
+
+    /**
+     * Stores the given value if there's no value for the state yet.
+     *
+     * @return The value stored for the state, that is the given value if there was no value.
+     */
+    abstract @NotNull StateValue putIfAbsent(int slot, long stateId, @NotNull StateValue value);
+
+    abstract void put(int slot, long stateId, @NotNull StateValue value);
+
+    abstract void forEach(@NotNull BiConsumer<Long, StateValue> action);
+
+    abstract void forEachWatcher(long stateId, @NotNull Consumer<StateWatcher> action);
+
+    abstract @NotNull StateWatcherRegistration addWatcher(long stateId, @NotNull StateWatcher watcher);
+}
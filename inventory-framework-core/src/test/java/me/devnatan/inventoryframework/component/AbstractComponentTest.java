@@ -0,0 +1,67 @@
+package me.devnatan.inventoryframework.component;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import me.devnatan.inventoryframework.VirtualView;
+import me.devnatan.inventoryframework.pipeline.PipelineContext;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+public class AbstractComponentTest {
+
+    @Test
+    public void executionPipelineWithoutHandle() {
+        final Component component = new TestComponent();
+
+        assertSame(component.getPipeline(), component.getExecutionPipeline());
+        assertDoesNotThrow(() -> component.getExecutionPipeline().execute(Component.RENDER, null));
+    }
+
+    @Test
+    public void executionPipelineWithoutHandleBeforePipelineIsCreated() {
+        final Component component = new TestComponent();
+
+        assertDoesNotThrow(() -> component.getExecutionPipeline().execute(Component.CLICK, null));
+    }
+
+    @Test
+    public void executionPipelineIsSharedBetweenComponentsOfTheSameHandle() {
+        final AtomicInteger calls = new AtomicInteger();
+        final ComponentHandle handle = new ComponentHandle() {
+            @Override
+            public void intercept(PipelineContext<VirtualView> pipeline, VirtualView subject) {
+                calls.incrementAndGet();
+            }
+        };
+
+        final Component first = new TestComponent();
+        final Component second = new TestComponent();
+        first.setHandle(handle);
+        second.setHandle(handle);
+
+        assertSame(first.getExecutionPipeline(), second.getExecutionPipeline());
+        first.getExecutionPipeline().execute(Component.RENDER, null);
+        assertEquals(1, calls.get());
+    }
+
+    private static final class TestComponent extends AbstractComponent {
+
+        TestComponent() {
+            super("test", null, null, Collections.emptySet(), null);
+        }
+
+        @Override
+        public boolean isContainedWithin(int position) {
+            return false;
+        }
+
+        @Override
+        public boolean intersects(@NotNull Component other) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package me.devnatan.inventoryframework.component;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class PageCacheTest {
+
+    private static CompletableFuture<PageCache.LoadedPage> loadedPage() {
+        return CompletableFuture.completedFuture(
+                new PageCache.LoadedPage(Collections.emptyList(), Collections.emptyList(), 1));
+    }
+
+    @Test
+    public void leastRecentlyUsedPageIsEvicted() {
+        final PageCache cache = new PageCache(2, 0);
+        final CompletableFuture<PageCache.LoadedPage> first = loadedPage();
+        cache.put(0, first);
+        cache.put(1, loadedPage());
+
+        // page 0 becomes the most recently used so page 1 is evicted instead
+        assertSame(first, cache.get(0));
+        cache.put(2, loadedPage());
+
+        assertTrue(cache.contains(0));
+        assertFalse(cache.contains(1));
+        assertTrue(cache.contains(2));
+    }
+
+    @Test
+    public void expiredPageIsRemoved() throws InterruptedException {
+        final PageCache cache = new PageCache(2, TimeUnit.MILLISECONDS.toNanos(1));
+        cache.put(0, loadedPage());
+
+        Thread.sleep(5);
+        assertNull(cache.get(0));
+        assertFalse(cache.contains(0));
+    }
+
+    @Test
+    public void pageNeverExpiresWithoutExpiration() throws InterruptedException {
+        final PageCache cache = new PageCache(2, 0);
+        cache.put(0, loadedPage());
+
+        Thread.sleep(5);
+        assertTrue(cache.contains(0));
+    }
+
+    @Test
+    public void loadingPageIsCached() {
+        final PageCache cache = new PageCache(2, 0);
+        final CompletableFuture<PageCache.LoadedPage> loading = new CompletableFuture<>();
+        cache.put(0, loading);
+
+        assertSame(loading, cache.get(0));
+        loading.complete(loadedPage().join());
+        assertSame(loading, cache.get(0));
+    }
+
+    @Test
+    public void failedPageIsRemoved() {
+        final PageCache cache = new PageCache(2, 0);
+        final CompletableFuture<PageCache.LoadedPage> loading = new CompletableFuture<>();
+        cache.put(0, loading);
+
+        loading.completeExceptionally(new IllegalStateException());
+        assertFalse(cache.contains(0));
+    }
+
+    @Test
+    public void failedPageDoesNotRemoveItsReplacement() {
+        final PageCache cache = new PageCache(2, 0);
+        final CompletableFuture<PageCache.LoadedPage> loading = new CompletableFuture<>();
+        final CompletableFuture<PageCache.LoadedPage> replacement = loadedPage();
+        cache.put(0, loading);
+        cache.put(0, replacement);
+
+        loading.completeExceptionally(new IllegalStateException());
+        assertSame(replacement, cache.get(0));
+    }
+
+    @Test
+    public void invalidateRemovesAllPages() {
+        final PageCache cache = new PageCache(2, 0);
+        cache.put(0, loadedPage());
+        cache.put(1, loadedPage());
+
+        cache.invalidate();
+        assertFalse(cache.contains(0));
+        assertFalse(cache.contains(1));
+    }
+}
@@ -0,0 +1,557 @@
+package me.devnatan.inventoryframework.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import me.devnatan.inventoryframework.ViewConfigBuilder;
+import me.devnatan.inventoryframework.ViewContainer;
+import me.devnatan.inventoryframework.VirtualView;
+import me.devnatan.inventoryframework.context.IFComponentRenderContext;
+import me.devnatan.inventoryframework.context.IFRenderContext;
+import me.devnatan.inventoryframework.pipeline.Pipeline;
+import me.devnatan.inventoryframework.pipeline.Pipelined;
+import me.devnatan.inventoryframework.pipeline.StandardPipelinePhases;
+import me.devnatan.inventoryframework.state.State;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+public class PaginationImplTest {
+
+    private static final int PAGE_SIZE = 3;
+
+    private final TestContext context = new TestContext(PAGE_SIZE);
+
+    private PaginationImpl createPagination(
+            Object source, boolean isAsync, Function<Object, Object> elementKeyFactory, int maxCachedPages) {
+        final PaginationImpl pagination = new PaginationImpl(
+                "test",
+                context.proxy,
+                null,
+                Collections.emptySet(),
+                null,
+                State.next(),
+                '\0',
+                source,
+                (root, index, slot, value) -> new TestItem(slot, value),
+                null,
+                elementKeyFactory,
+                isAsync,
+                false,
+                maxCachedPages,
+                null);
+        pagination.updatePageSize(context.proxy);
+        return pagination;
+    }
+
+    private void load(PaginationImpl pagination) {
+        pagination.loadCurrentPage(context.proxy).join();
+    }
+
+    private void switchTo(PaginationImpl pagination, int pageIndex) {
+        pagination.switchTo(pageIndex);
+        pagination.cleared(context.proxy);
+        load(pagination);
+    }
+
+    private static List<Object> valuesOf(Pagination pagination) {
+        return pagination.getComponents().stream()
+                .map(component -> ((TestItem) component).value)
+                .collect(Collectors.toList());
+    }
+
+    private static List<Integer> range(int from, int to) {
+        return IntStream.range(from, to).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    public void windowedSourceFetchesOnlyCurrentPage() {
+        final List<Integer> elements = range(0, 8);
+        final List<String> fetches = new ArrayList<>();
+        final WindowedPaginationSource<Object, Integer> source = (offset, limit, $) -> {
+            fetches.add(offset + ".." + limit);
+            return CompletableFuture.completedFuture(
+                    Page.of(elements.subList(offset, Math.min(offset + limit, elements.size())), elements.size()));
+        };
+        final PaginationImpl pagination = createPagination(source, true, null, 0);
+
+        load(pagination);
+        assertEquals(Arrays.asList(0, 1, 2), valuesOf(pagination));
+        assertEquals(3, pagination.lastPage());
+
+        switchTo(pagination, 2);
+        assertEquals(Arrays.asList(6, 7), valuesOf(pagination));
+        assertEquals(Arrays.asList("0..3", "6..3"), fetches);
+    }
+
+    @Test
+    public void windowedPagesCountFromTotalCount() {
+        final int[] total = {9};
+        final WindowedPaginationSource<Object, Integer> source =
+                (offset, limit, $) -> CompletableFuture.completedFuture(Page.of(range(0, limit), total[0]));
+        final PaginationImpl pagination = createPagination(source, true, null, 0);
+
+        load(pagination);
+        assertEquals(3, pagination.lastPage());
+
+        total[0] = 10;
+        load(pagination);
+        assertEquals(4, pagination.lastPage());
+
+        total[0] = 0;
+        load(pagination);
+        assertEquals(0, pagination.lastPage());
+    }
+
+    @Test
+    public void windowedPagesCountWithoutTotalCount() {
+        final List<Integer> elements = range(0, 7);
+        final WindowedPaginationSource<Object, Integer> source = (offset, limit, $) -> CompletableFuture.completedFuture(
+                Page.of(elements.subList(offset, Math.min(offset + limit, elements.size()))));
+        final PaginationImpl pagination = createPagination(source, true, null, 0);
+
+        // a full page means that there may be a next page
+        load(pagination);
+        assertEquals(2, pagination.lastPage());
+        assertTrue(pagination.canAdvance());
+
+        switchTo(pagination, 1);
+        assertEquals(3, pagination.lastPage());
+
+        switchTo(pagination, 2);
+        assertEquals(Collections.singletonList(6), valuesOf(pagination));
+        assertEquals(3, pagination.lastPage());
+        assertFalse(pagination.canAdvance());
+    }
+
+    @Test
+    public void windowedPageLargerThanLimitIsTruncated() {
+        final WindowedPaginationSource<Object, Integer> source =
+                (offset, limit, $) -> CompletableFuture.completedFuture(Page.of(range(0, limit * 2), limit * 2));
+        final PaginationImpl pagination = createPagination(source, true, null, 0);
+
+        load(pagination);
+        assertEquals(Arrays.asList(0, 1, 2), valuesOf(pagination));
+        assertEquals(2, pagination.lastPage());
+    }
+
+    @Test
+    public void cachedWindowedPagesArePrefetched() {
+        final List<Integer> elements = range(0, 9);
+        final List<Integer> fetches = new ArrayList<>();
+        final WindowedPaginationSource<Object, Integer> source = (offset, limit, $) -> {
+            fetches.add(offset);
+            return CompletableFuture.completedFuture(
+                    Page.of(elements.subList(offset, Math.min(offset + limit, elements.size())), elements.size()));
+        };
+        final PaginationImpl pagination = createPagination(source, true, null, 5);
+
+        load(pagination);
+        assertEquals(Arrays.asList(0, 3), fetches);
+
+        // the next page was prefetched so only the page after it is fetched
+        switchTo(pagination, 1);
+        assertEquals(Arrays.asList(3, 4, 5), valuesOf(pagination));
+        assertEquals(Arrays.asList(0, 3, 6), fetches);
+
+        switchTo(pagination, 0);
+        assertEquals(Arrays.asList(0, 1, 2), valuesOf(pagination));
+        assertEquals(Arrays.asList(0, 3, 6), fetches);
+    }
+
+    @Test
+    public void cachedLazyPagesAreNotPrefetched() {
+        final int[] calls = {0};
+        final Function<Object, List<Integer>> source = $ -> {
+            calls[0]++;
+            return range(0, 9);
+        };
+        final PaginationImpl pagination = createPagination(source, false, null, 5);
+
+        // prefetching would call the source provider again for the whole source
+        load(pagination);
+        assertEquals(1, calls[0]);
+        assertEquals(Arrays.asList(0, 1, 2), valuesOf(pagination));
+    }
+
+    @Test
+    public void asyncPageIsRenderedOnRootResumeExecutor() throws InterruptedException {
+        final List<Runnable> resumed = new ArrayList<>();
+        final Pipeline<VirtualView> rootPipeline = new Pipeline<>(StandardPipelinePhases.FIRST_RENDER);
+        rootPipeline.setResumeExecutor(resumed::add);
+        context.root = (VirtualView) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] {VirtualView.class, Pipelined.class},
+                (proxy, method, args) -> method.getName().equals("getPipeline") ? rootPipeline : null);
+
+        final CompletableFuture<List<?>> job = new CompletableFuture<>();
+        final Function<Object, CompletableFuture<List<?>>> source = $ -> job;
+        final PaginationImpl pagination = createPagination(source, true, null, 0);
+        final IFComponentRenderContext renderContext = TestContext.proxy(
+                IFComponentRenderContext.class,
+                (method, args) -> method.getName().equals("getParent") ? context.proxy : null);
+
+        final Pipeline<VirtualView> componentPipeline = new Pipeline<>(Component.RENDER);
+        componentPipeline.intercept(
+                Component.RENDER, (pipeline, subject) -> pagination.render(pipeline, renderContext));
+        componentPipeline.execute(Component.RENDER, renderContext);
+
+        final Thread completer = new Thread(() -> job.complete(range(0, 3)));
+        completer.start();
+        completer.join();
+        assertTrue(context.rendered.isEmpty());
+        assertEquals(1, resumed.size());
+
+        resumed.get(0).run();
+        assertEquals(Arrays.asList(0, 1, 2), valuesOf(pagination));
+        assertEquals(pagination.getComponents(), context.rendered);
+    }
+
+    @Test
+    public void pageSwitchesDoNotLeakComponentWatchers() {
+        final PaginationImpl pagination = createPagination(range(0, 9), false, null, 0);
+        load(pagination);
+        assertEquals(PAGE_SIZE, context.watched.size());
+
+        for (int switches = 0; switches < 10; switches++) {
+            switchTo(pagination, switches % 3);
+            assertEquals(PAGE_SIZE, context.watched.size());
+            assertTrue(context.watched.containsAll(pagination.getComponents()));
+        }
+    }
+
+    private PaginationImpl createKeyedPagination(List<String> source) {
+        final Supplier<List<String>> provider = () -> new ArrayList<>(source);
+        return createPagination(provider, false, value -> ((String) value).charAt(0), 0);
+    }
+
+    private void reconcile(PaginationImpl pagination) {
+        context.rendered.clear();
+        context.removedSlots.clear();
+        load(pagination);
+        pagination.applyReconciliation(context.proxy);
+    }
+
+    @Test
+    public void keyedElementsAreCreatedOnFirstLoad() {
+        final List<String> source = new ArrayList<>(Arrays.asList("a1", "b1", "c1"));
+        final PaginationImpl pagination = createKeyedPagination(source);
+
+        reconcile(pagination);
+        assertEquals(Arrays.asList("a1", "b1", "c1"), valuesOf(pagination));
+        assertEquals(pagination.getComponents(), context.rendered);
+        assertEquals(Collections.emptyList(), context.removedSlots);
+    }
+
+    @Test
+    public void unchangedKeyedElementsAreKept() {
+        final List<String> source = new ArrayList<>(Arrays.asList("a1", "b1", "c1"));
+        final PaginationImpl pagination = createKeyedPagination(source);
+        reconcile(pagination);
+        final List<Component> previous = new ArrayList<>(pagination.getComponents());
+
+        reconcile(pagination);
+        assertEquals(previous, pagination.getComponents());
+        assertEquals(Collections.emptyList(), context.rendered);
+        assertEquals(Collections.emptyList(), context.removedSlots);
+    }
+
+    @Test
+    public void movedKeyedElementsAreRepositioned() {
+        final List<String> source = new ArrayList<>(Arrays.asList("a1", "b1", "c1"));
+        final PaginationImpl pagination = createKeyedPagination(source);
+        reconcile(pagination);
+        final List<Component> previous = new ArrayList<>(pagination.getComponents());
+
+        Collections.swap(source, 0, 1);
+        reconcile(pagination);
+
+        assertEquals(Arrays.asList(previous.get(1), previous.get(0), previous.get(2)), pagination.getComponents());
+        assertEquals(0, ((ItemComponent) previous.get(1)).getPosition());
+        assertEquals(1, ((ItemComponent) previous.get(0)).getPosition());
+        assertEquals(Arrays.asList(previous.get(1), previous.get(0)), context.rendered);
+        assertEquals(Collections.emptyList(), context.removedSlots);
+    }
+
+    @Test
+    public void changedKeyedElementsAreRecreated() {
+        final List<String> source = new ArrayList<>(Arrays.asList("a1", "b1"));
+        final PaginationImpl pagination = createKeyedPagination(source);
+        reconcile(pagination);
+        final List<Component> previous = new ArrayList<>(pagination.getComponents());
+
+        source.set(0, "a2");
+        reconcile(pagination);
+
+        assertEquals(Arrays.asList("a2", "b1"), valuesOf(pagination));
+        assertNotSame(previous.get(0), pagination.getComponents().get(0));
+        assertSame(previous.get(1), pagination.getComponents().get(1));
+        assertEquals(Collections.singletonList(pagination.getComponents().get(0)), context.rendered);
+        assertEquals(Collections.emptyList(), context.removedSlots);
+    }
+
+    @Test
+    public void slotsOfRemovedKeyedElementsAreVacated() {
+        final List<String> source = new ArrayList<>(Arrays.asList("a1", "b1", "c1"));
+        final PaginationImpl pagination = createKeyedPagination(source);
+        reconcile(pagination);
+
+        source.remove(0);
+        reconcile(pagination);
+
+        // "b1" and "c1" moved one slot back so only the last slot is left empty
+        assertEquals(Arrays.asList("b1", "c1"), valuesOf(pagination));
+        assertEquals(pagination.getComponents(), context.rendered);
+        assertEquals(Collections.singletonList(2), context.removedSlots);
+    }
+
+    @Test
+    public void duplicatedKeysArePlacedButNotReused() {
+        final List<String> source = new ArrayList<>(Arrays.asList("a1", "a2", "b1"));
+        final PaginationImpl pagination = createKeyedPagination(source);
+        reconcile(pagination);
+        final List<Component> previous = new ArrayList<>(pagination.getComponents());
+        assertEquals(Arrays.asList("a1", "a2", "b1"), valuesOf(pagination));
+
+        reconcile(pagination);
+        assertEquals(Arrays.asList("a1", "a2", "b1"), valuesOf(pagination));
+        assertSame(previous.get(0), pagination.getComponents().get(0));
+        assertNotSame(previous.get(1), pagination.getComponents().get(1));
+        assertSame(previous.get(2), pagination.getComponents().get(2));
+        assertEquals(Collections.singletonList(pagination.getComponents().get(1)), context.rendered);
+    }
+
+    @Test
+    public void streamingLookaheadIsReusedWhenAdvancing() {
+        final TestStreamingSource source = new TestStreamingSource(8);
+        final PaginationImpl pagination = createPagination(source, false, null, 0);
+
+        load(pagination);
+        assertEquals(Arrays.asList(0, 1, 2), valuesOf(pagination));
+        assertEquals(2, pagination.lastPage());
+
+        switchTo(pagination, 1);
+        assertEquals(Arrays.asList(3, 4, 5), valuesOf(pagination));
+        assertEquals(3, pagination.lastPage());
+        assertEquals(Collections.singletonList(0L), source.opens);
+    }
+
+    @Test
+    public void streamingSourceIsReopenedWhenGoingBack() {
+        final TestStreamingSource source = new TestStreamingSource(8);
+        final PaginationImpl pagination = createPagination(source, false, null, 0);
+        load(pagination);
+        switchTo(pagination, 1);
+
+        switchTo(pagination, 0);
+        assertEquals(Arrays.asList(0, 1, 2), valuesOf(pagination));
+        assertEquals(Arrays.asList(0L, 0L), source.opens);
+        assertTrue(source.iterators.get(0).closed);
+    }
+
+    @Test
+    public void streamingSourceIsClosedWhenExhausted() {
+        final TestStreamingSource source = new TestStreamingSource(7);
+        final PaginationImpl pagination = createPagination(source, false, null, 0);
+        load(pagination);
+        switchTo(pagination, 1);
+
+        switchTo(pagination, 2);
+        assertEquals(Collections.singletonList(6), valuesOf(pagination));
+        assertEquals(3, pagination.lastPage());
+        assertFalse(pagination.canAdvance());
+        assertTrue(source.iterators.get(0).closed);
+    }
+
+    @Test
+    public void streamingSourceIsReopenedAfterCleared() {
+        final TestStreamingSource source = new TestStreamingSource(8);
+        final PaginationImpl pagination = createPagination(source, false, null, 0);
+        load(pagination);
+
+        // cleared without a page switch, e.g.: when the context is closed
+        pagination.cleared(context.proxy);
+        assertTrue(source.iterators.get(0).closed);
+
+        load(pagination);
+        assertEquals(Arrays.asList(0L, 0L), source.opens);
+    }
+
+    /**
+     * Streaming source of sequential numbers that records the offsets it was opened at.
+     */
+    private static final class TestStreamingSource implements StreamingPaginationSource<Object, Integer> {
+        final int size;
+        final List<Long> opens = new ArrayList<>();
+        final List<CloseableIterator> iterators = new ArrayList<>();
+
+        TestStreamingSource(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public @NotNull Iterator<Integer> open(@NotNull Object context, long offset) {
+            opens.add(offset);
+            final CloseableIterator iterator = new CloseableIterator((int) offset, size);
+            iterators.add(iterator);
+            return iterator;
+        }
+    }
+
+    private static final class CloseableIterator implements Iterator<Integer>, AutoCloseable {
+        final int size;
+        int next;
+        boolean closed;
+
+        CloseableIterator(int next, int size) {
+            this.next = next;
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !closed && next < size;
+        }
+
+        @Override
+        public Integer next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return next++;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    /**
+     * Render context whose container has the given size and that records the changes made to it.
+     */
+    private static final class TestContext {
+        final List<Component> rendered = new ArrayList<>();
+        final List<Integer> removedSlots = new ArrayList<>();
+        final Set<Component> watched = Collections.newSetFromMap(new IdentityHashMap<>());
+        final IFRenderContext proxy;
+        VirtualView root;
+
+        TestContext(int size) {
+            final ViewContainer container = proxy(ViewContainer.class, (method, args) -> {
+                switch (method.getName()) {
+                    case "getSize":
+                        return size;
+                    case "getFirstSlot":
+                        return 0;
+                    case "getLastSlot":
+                        return size - 1;
+                    case "removeItem":
+                        removedSlots.add((Integer) args[0]);
+                        return null;
+                    default:
+                        return defaultValue(method);
+                }
+            });
+            this.proxy = proxy(IFRenderContext.class, (method, args) -> {
+                switch (method.getName()) {
+                    case "getConfig":
+                        return new ViewConfigBuilder().build();
+                    case "getContainer":
+                        return container;
+                    case "renderComponent":
+                        rendered.add((Component) args[0]);
+                        return null;
+                    case "getRoot":
+                        return root;
+                    case "watchComponentStates":
+                        watched.add((Component) args[0]);
+                        return null;
+                    case "unwatchComponentStates":
+                        watched.remove((Component) args[0]);
+                        return null;
+                    default:
+                        return defaultValue(method);
+                }
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, MethodHandler handler) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+                if (method.getName().equals("hashCode")) return System.identityHashCode(proxy);
+                if (method.getName().equals("equals")) return proxy == args[0];
+                return handler.handle(method, args);
+            });
+        }
+
+        private static Object defaultValue(Method method) {
+            final Class<?> type = method.getReturnType();
+            if (type == boolean.class) return false;
+            if (type == int.class) return 0;
+            if (type == long.class) return 0L;
+            return null;
+        }
+
+        @FunctionalInterface
+        private interface MethodHandler {
+            Object handle(Method method, Object[] args) throws Throwable;
+        }
+    }
+
+    private static final class TestItem extends AbstractComponent implements ItemComponent {
+        final Object value;
+        int position;
+
+        TestItem(int position, Object value) {
+            super("item", null, null, Collections.emptySet(), null);
+            this.position = position;
+            this.value = value;
+        }
+
+        @Override
+        public int getPosition() {
+            return position;
+        }
+
+        @Override
+        public void setPosition(int position) {
+            this.position = position;
+        }
+
+        @Override
+        public Object getPlatformItem() {
+            return value;
+        }
+
+        @Override
+        public boolean isContainedWithin(int position) {
+            return this.position == position;
+        }
+
+        @Override
+        public boolean intersects(@NotNull Component other) {
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return "TestItem{position=" + position + ", value=" + value + '}';
+        }
+    }
+}
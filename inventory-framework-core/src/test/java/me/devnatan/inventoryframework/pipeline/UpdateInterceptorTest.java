@@ -0,0 +1,115 @@
+package me.devnatan.inventoryframework.pipeline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import me.devnatan.inventoryframework.ViewConfig;
+import me.devnatan.inventoryframework.ViewConfigBuilder;
+import me.devnatan.inventoryframework.VirtualView;
+import me.devnatan.inventoryframework.component.Component;
+import me.devnatan.inventoryframework.context.IFRenderContext;
+import org.junit.jupiter.api.Test;
+
+public class UpdateInterceptorTest {
+
+    @Test
+    public void scheduledUpdateSkipsUpToDateComponents() {
+        final TestContext context = new TestContext(new ViewConfigBuilder().skipUnchangedUpdates().build());
+        context.scheduledUpdate = true;
+
+        update(context);
+        assertEquals(0, context.updated.size());
+    }
+
+    @Test
+    public void explicitUpdateNeverSkipsUpToDateComponents() {
+        final TestContext context = new TestContext(new ViewConfigBuilder().skipUnchangedUpdates().build());
+
+        update(context);
+        assertEquals(1, context.updated.size());
+    }
+
+    @Test
+    public void explicitUpdateInBatchNeverSkipsUpToDateComponents() {
+        final TestContext context = new TestContext(new ViewConfigBuilder().skipUnchangedUpdates().build());
+        final Pipeline<VirtualView> pipeline = new Pipeline<>(StandardPipelinePhases.UPDATE);
+        pipeline.intercept(StandardPipelinePhases.UPDATE, new UpdateInterceptor());
+
+        pipeline.executeAll(StandardPipelinePhases.UPDATE, Collections.singletonList(context.proxy));
+        assertEquals(1, context.updated.size());
+    }
+
+    @Test
+    public void scheduledUpdateWithoutSkipOptionUpdatesEverything() {
+        final TestContext context = new TestContext(new ViewConfigBuilder().build());
+        context.scheduledUpdate = true;
+
+        update(context);
+        assertEquals(1, context.updated.size());
+    }
+
+    @Test
+    public void scheduledUpdateFlagIsExposedByContext() {
+        final TestContext context = new TestContext(new ViewConfigBuilder().build());
+
+        assertFalse(context.proxy.isScheduledUpdate());
+        context.proxy.setScheduledUpdate(true);
+        assertEquals(true, context.proxy.isScheduledUpdate());
+    }
+
+    private static void update(TestContext context) {
+        final Pipeline<VirtualView> pipeline = new Pipeline<>(StandardPipelinePhases.UPDATE);
+        pipeline.intercept(StandardPipelinePhases.UPDATE, new UpdateInterceptor());
+        pipeline.execute(StandardPipelinePhases.UPDATE, context.proxy);
+    }
+
+    /**
+     * Render context with a single component that is always up-to-date.
+     */
+    private static final class TestContext {
+        final List<Component> updated = new ArrayList<>();
+        final Component component = (Component) Proxy.newProxyInstance(
+                Component.class.getClassLoader(), new Class<?>[] {Component.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("hashCode")) return System.identityHashCode(proxy);
+                    if (method.getName().equals("equals")) return proxy == args[0];
+                    return null;
+                });
+        final IFRenderContext proxy;
+        boolean scheduledUpdate;
+
+        TestContext(ViewConfig config) {
+            proxy = (IFRenderContext) Proxy.newProxyInstance(
+                    IFRenderContext.class.getClassLoader(),
+                    new Class<?>[] {IFRenderContext.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "isRendered":
+                            case "isComponentUpToDate":
+                                return true;
+                            case "getConfig":
+                                return config;
+                            case "getComponents":
+                                return Collections.singletonList(component);
+                            case "isScheduledUpdate":
+                                return scheduledUpdate;
+                            case "setScheduledUpdate":
+                                scheduledUpdate = (boolean) args[0];
+                                return null;
+                            case "updateComponent":
+                                updated.add((Component) args[0]);
+                                return null;
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            case "equals":
+                                return proxy == args[0];
+                            default:
+                                return null;
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package me.devnatan.inventoryframework.state;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+public class DefaultStateValueHostTest {
+
+    @Test
+    public void stateValuesViewReflectsInitializedValues() {
+        final DefaultStateValueHost host = new DefaultStateValueHost();
+        final Map<Long, StateValue> view = host.getStateValues();
+        assertTrue(view.isEmpty());
+
+        final long id = State.next();
+        final StateValue value = new MutableValue(id, "foo");
+        host.initializeState(id, value);
+
+        assertEquals(1, view.size());
+        assertSame(value, view.get(id));
+        assertTrue(view.containsKey(id));
+        assertNull(view.get(State.next()));
+
+        final Map<Long, StateValue> iterated = new LinkedHashMap<>();
+        view.forEach(iterated::put);
+        assertEquals(view, iterated);
+    }
+
+    @Test
+    public void stateValuesViewIsUnmodifiable() {
+        final DefaultStateValueHost host = new DefaultStateValueHost();
+        final long id = State.next();
+
+        assertThrows(UnsupportedOperationException.class, () -> host.getStateValues()
+                .put(id, new MutableValue(id, null)));
+    }
+
+    @Test
+    public void stateVersionChangesOnlyWhenStatesChange() {
+        final DefaultStateValueHost host = new DefaultStateValueHost();
+        final long id = State.next();
+        final MutableState<String> state = new BaseMutableState<>(id, ($, $$) -> new MutableValue(id, "foo"));
+        final long initial = host.getStateVersion();
+
+        assertEquals("foo", state.get(host));
+        assertEquals(initial, host.getStateVersion());
+
+        state.set("bar", host);
+        final long updated = host.getStateVersion();
+        assertTrue(updated > initial);
+
+        assertEquals("bar", state.get(host));
+        assertEquals(updated, host.getStateVersion());
+
+        host.initializeState(id, new MutableValue(id, "baz"));
+        assertTrue(host.getStateVersion() > updated);
+    }
+
+    @Test
+    public void stateVersionChangesOnPrimitiveUpdates() {
+        final DefaultStateValueHost host = new DefaultStateValueHost();
+        final long id = State.next();
+        final MutableIntState state = new MutableIntStateImpl(id, ($, $$) -> new IntValue(id, 0));
+        state.getAsInt(host);
+        final long initial = host.getStateVersion();
+
+        assertEquals(1, state.increment(host));
+        assertTrue(host.getStateVersion() > initial);
+    }
+
+    @Test
+    public void memoizedValuesAreInvalidatedBeforeDeferredWatchers() {
+        final List<Runnable> deferred = new ArrayList<>();
+        final DefaultStateValueHost host = new DefaultStateValueHost();
+        host.useConcurrentStorage(deferred::add);
+
+        final long inputId = State.next();
+        final MutableState<Integer> input = new BaseMutableState<>(inputId, ($, $$) -> new MutableValue(inputId, 1));
+        final long memoId = State.next();
+        final State<Integer> twice =
+                new BaseState<>(memoId, ($, $$) -> new MemoizedValue(memoId, host, () -> input.get(host) * 2));
+        final SetCounter watcher = new SetCounter();
+        assertEquals(2, twice.get(host));
+        host.watchState(inputId, watcher);
+
+        input.set(5, host);
+        assertEquals(10, twice.get(host));
+        assertEquals(0, watcher.sets.get());
+
+        deferred.forEach(Runnable::run);
+        assertEquals(1, watcher.sets.get());
+    }
+
+    @Test
+    public void concurrentUpdatesNotifyEveryWatcher() throws InterruptedException {
+        final int threads = 8;
+        final int updates = 1000;
+        final DefaultStateValueHost host = new DefaultStateValueHost();
+        host.useConcurrentStorage(null);
+
+        final long id = State.next();
+        host.initializeState(id, new MutableValue(id, 0));
+
+        final SetCounter[] watchers = new SetCounter[threads];
+        final CountDownLatch watching = new CountDownLatch(threads);
+        final Thread[] workers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            final SetCounter watcher = watchers[i] = new SetCounter();
+            workers[i] = new Thread(() -> {
+                host.watchState(id, watcher);
+                watching.countDown();
+                try {
+                    watching.await();
+                } catch (final InterruptedException exception) {
+                    throw new RuntimeException(exception);
+                }
+
+                for (int update = 0; update < updates; update++) host.updateState(id, update);
+            });
+            workers[i].start();
+        }
+        for (final Thread worker : workers) worker.join();
+
+        for (final SetCounter watcher : watchers) assertEquals(threads * updates, watcher.sets.get());
+        assertEquals(updates - 1, host.getUninitializedStateValue(id).get());
+    }
+
+    @Test
+    public void unregisteredWatchersAreNotNotified() {
+        final DefaultStateValueHost localHost = new DefaultStateValueHost();
+        final DefaultStateValueHost concurrentHost = new DefaultStateValueHost();
+        concurrentHost.useConcurrentStorage(null);
+
+        for (final DefaultStateValueHost host : new DefaultStateValueHost[] {localHost, concurrentHost}) {
+            final long id = State.next();
+            host.initializeState(id, new MutableValue(id, 0));
+
+            final SetCounter unregistered = new SetCounter();
+            final SetCounter registered = new SetCounter();
+            final StateWatcherRegistration registration = host.watchState(id, unregistered);
+            host.watchState(id, registered);
+
+            registration.unregister();
+            registration.unregister();
+            host.updateState(id, 1);
+            assertEquals(0, unregistered.sets.get());
+            assertEquals(1, registered.sets.get());
+        }
+    }
+
+    private static final class SetCounter implements StateWatcher {
+        final AtomicInteger sets = new AtomicInteger();
+
+        @Override
+        public void stateRegistered(@NotNull State<?> state, Object caller) {}
+
+        @Override
+        public void stateUnregistered(@NotNull State<?> state, Object caller) {}
+
+        @Override
+        public void stateValueGet(
+                @NotNull State<?> state,
+                @NotNull StateValueHost host,
+                @NotNull StateValue internalValue,
+                Object rawValue) {}
+
+        @Override
+        public void stateValueSet(
+                @NotNull StateValueHost host, @NotNull StateValue value, Object rawOldValue, Object rawNewValue) {
+            sets.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package me.devnatan.inventoryframework.state;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+public class DerivedStateGraphTest {
+
+    private final DefaultStateValueHost host = new DefaultStateValueHost();
+    private final List<String> derivations = new ArrayList<>();
+
+    private static MutableState<Integer> mutableState(int initialValue) {
+        final long id = State.next();
+        return new BaseMutableState<>(id, (host, state) -> new MutableValue(id, initialValue));
+    }
+
+    @SuppressWarnings("unchecked")
+    private State<Integer> derivedState(String name, Function<Object[], Integer> derivation, State<?>... inputs) {
+        final long id = State.next();
+        return new BaseState<>(id, (host, state) -> new DerivedValue(id, host, inputs, args -> {
+            derivations.add(name);
+            return derivation.apply(args);
+        }));
+    }
+
+    private List<String> watchSets(State<?>... states) {
+        final List<String> sets = new ArrayList<>();
+        for (final State<?> state : states) {
+            host.watchState(state.internalId(), new StateWatcher() {
+                @Override
+                public void stateRegistered(@NotNull State<?> state, Object caller) {}
+
+                @Override
+                public void stateUnregistered(@NotNull State<?> state, Object caller) {}
+
+                @Override
+                public void stateValueGet(
+                        @NotNull State<?> state,
+                        @NotNull StateValueHost host,
+                        @NotNull StateValue internalValue,
+                        Object rawValue) {}
+
+                @Override
+                public void stateValueSet(
+                        @NotNull StateValueHost host,
+                        @NotNull StateValue value,
+                        Object rawOldValue,
+                        Object rawNewValue) {
+                    sets.add(rawOldValue + " -> " + rawNewValue);
+                }
+            });
+        }
+        return sets;
+    }
+
+    @Test
+    public void dependentsAreRecomputedOnceInRankOrder() {
+        final MutableState<Integer> input = mutableState(1);
+        final State<Integer> plusOne = derivedState("plusOne", args -> (Integer) args[0] + 1, input);
+        final State<Integer> twice = derivedState("twice", args -> (Integer) args[0] * 2, input);
+        final State<Integer> sum =
+                derivedState("sum", args -> (Integer) args[0] + (Integer) args[1], plusOne, twice);
+
+        assertEquals(4, sum.get(host));
+        derivations.clear();
+
+        input.set(5, host);
+        assertEquals(Arrays.asList("plusOne", "twice", "sum"), derivations);
+        assertEquals(6, plusOne.get(host));
+        assertEquals(10, twice.get(host));
+        assertEquals(16, sum.get(host));
+        assertEquals(Arrays.asList("plusOne", "twice", "sum"), derivations);
+    }
+
+    @Test
+    public void equalDerivedValueStopsPropagation() {
+        final MutableState<Integer> input = mutableState(1);
+        final State<Integer> parity = derivedState("parity", args -> (Integer) args[0] % 2, input);
+        final State<Integer> negated = derivedState("negated", args -> -(Integer) args[0], parity);
+
+        assertEquals(-1, negated.get(host));
+        derivations.clear();
+        final List<String> sets = watchSets(parity, negated);
+
+        input.set(3, host);
+        assertEquals(Collections.singletonList("parity"), derivations);
+        assertEquals(Collections.emptyList(), sets);
+
+        input.set(4, host);
+        assertEquals(Arrays.asList("parity", "parity", "negated"), derivations);
+        assertEquals(Arrays.asList("1 -> 0", "-1 -> 0"), sets);
+    }
+
+    @Test
+    public void settingEqualValueNotifiesWatchersWithoutPropagating() {
+        final MutableState<Integer> input = mutableState(1);
+        final State<Integer> plusOne = derivedState("plusOne", args -> (Integer) args[0] + 1, input);
+
+        assertEquals(2, plusOne.get(host));
+        derivations.clear();
+        final List<String> inputSets = watchSets(input);
+
+        input.set(1, host);
+        assertEquals(Collections.emptyList(), derivations);
+        assertEquals(Collections.singletonList("1 -> 1"), inputSets);
+    }
+
+    @Test
+    public void derivedValuesAreUpToDateWhenWatchersAreNotified() {
+        final MutableState<Integer> input = mutableState(1);
+        final State<Integer> plusOne = derivedState("plusOne", args -> (Integer) args[0] + 1, input);
+        assertEquals(2, plusOne.get(host));
+
+        final List<Integer> observed = new ArrayList<>();
+        host.watchState(input.internalId(), new StateWatcher() {
+            @Override
+            public void stateRegistered(@NotNull State<?> state, Object caller) {}
+
+            @Override
+            public void stateUnregistered(@NotNull State<?> state, Object caller) {}
+
+            @Override
+            public void stateValueGet(
+                    @NotNull State<?> state,
+                    @NotNull StateValueHost host,
+                    @NotNull StateValue internalValue,
+                    Object rawValue) {}
+
+            @Override
+            public void stateValueSet(
+                    @NotNull StateValueHost host, @NotNull StateValue value, Object rawOldValue, Object rawNewValue) {
+                observed.add(plusOne.get(host));
+            }
+        });
+
+        input.set(7, host);
+        assertEquals(Collections.singletonList(8), observed);
+    }
+}
@@ -0,0 +1,96 @@
+package me.devnatan.inventoryframework.state;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+public class MemoizedValueTest {
+
+    private final DefaultStateValueHost host = new DefaultStateValueHost();
+    private final List<String> computations = new ArrayList<>();
+
+    private static MutableState<Integer> mutableState(int initialValue) {
+        final long id = State.next();
+        return new BaseMutableState<>(id, (host, state) -> new MutableValue(id, initialValue));
+    }
+
+    private State<Integer> memoizedState(String name, Supplier<Integer> computation) {
+        final long id = State.next();
+        return new BaseState<>(id, (host, state) -> new MemoizedValue(id, host, () -> {
+            computations.add(name);
+            return computation.get();
+        }));
+    }
+
+    @Test
+    public void valueIsComputedOnce() {
+        final MutableState<Integer> input = mutableState(2);
+        final State<Integer> twice = memoizedState("twice", () -> input.get(host) * 2);
+
+        assertEquals(4, twice.get(host));
+        assertEquals(4, twice.get(host));
+        assertEquals(Arrays.asList("twice"), computations);
+    }
+
+    @Test
+    public void dependencySetInvalidatesValue() {
+        final MutableState<Integer> input = mutableState(2);
+        final State<Integer> twice = memoizedState("twice", () -> input.get(host) * 2);
+
+        assertEquals(4, twice.get(host));
+        input.set(5, host);
+        assertEquals(10, twice.get(host));
+        assertEquals(Arrays.asList("twice", "twice"), computations);
+    }
+
+    @Test
+    public void invalidationIsPropagatedToDependentValues() {
+        final MutableState<Integer> input = mutableState(2);
+        final State<Integer> twice = memoizedState("twice", () -> input.get(host) * 2);
+        final State<Integer> plusOne = memoizedState("plusOne", () -> twice.get(host) + 1);
+
+        assertEquals(5, plusOne.get(host));
+        input.set(5, host);
+        assertEquals(11, plusOne.get(host));
+        assertEquals(Arrays.asList("plusOne", "twice", "plusOne", "twice"), computations);
+    }
+
+    @Test
+    public void unrelatedStateSetKeepsValue() {
+        final MutableState<Integer> input = mutableState(2);
+        final MutableState<Integer> unrelated = mutableState(0);
+        final State<Integer> twice = memoizedState("twice", () -> input.get(host) * 2);
+
+        assertEquals(0, unrelated.get(host));
+        assertEquals(4, twice.get(host));
+        unrelated.set(1, host);
+        unrelated.set(2, host);
+        assertEquals(4, twice.get(host));
+        assertEquals(Arrays.asList("twice"), computations);
+    }
+
+    @Test
+    public void dependencySetWhileComputingIsNotLost() {
+        final MutableState<Integer> input = mutableState(2);
+        final boolean[] setWhileComputing = {true};
+        final State<Integer> twice = memoizedState("twice", () -> {
+            final int value = input.get(host) * 2;
+
+            // as another thread would, sets the dependency after it was read
+            if (setWhileComputing[0]) {
+                setWhileComputing[0] = false;
+                input.set(5, host);
+            }
+            return value;
+        });
+
+        assertEquals(4, twice.get(host));
+        assertEquals(10, twice.get(host));
+        assertEquals(10, twice.get(host));
+        assertEquals(Arrays.asList("twice", "twice"), computations);
+    }
+}
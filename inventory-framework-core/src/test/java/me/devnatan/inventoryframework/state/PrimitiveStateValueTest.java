@@ -0,0 +1,41 @@
+package me.devnatan.inventoryframework.state;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PrimitiveStateValueTest {
+
+    @Test
+    public void setIntValue() {
+        final IntValue value = new IntValue(State.next(), 1);
+        value.set(2);
+
+        assertEquals(2, value.getAsInt());
+    }
+
+    @Test
+    public void setIntValueToNull() {
+        final IntValue value = new IntValue(State.next(), 1);
+
+        assertThrows(StateException.class, () -> value.set(null));
+        assertEquals(1, value.getAsInt());
+    }
+
+    @Test
+    public void setLongValue() {
+        final LongValue value = new LongValue(State.next(), 1L);
+        value.set(2L);
+
+        assertEquals(2L, value.getAsLong());
+    }
+
+    @Test
+    public void setLongValueToNull() {
+        final LongValue value = new LongValue(State.next(), 1L);
+
+        assertThrows(StateException.class, () -> value.set(null));
+        assertEquals(1L, value.getAsLong());
+    }
+}
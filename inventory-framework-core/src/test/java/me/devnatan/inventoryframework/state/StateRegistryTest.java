@@ -0,0 +1,65 @@
+package me.devnatan.inventoryframework.state;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+public class StateRegistryTest {
+
+    private final StateRegistry registry = new StateRegistry();
+
+    private static MutableState<String> mutableState(String initialValue) {
+        final long id = State.next();
+        return new BaseMutableState<>(id, (host, state) -> new MutableValue(id, initialValue));
+    }
+
+    @Test
+    public void freezeAssignsSlotsInRegistrationOrder() {
+        final MutableState<String> first = mutableState("first");
+        final MutableState<String> second = mutableState("second");
+        registry.registerState(first, this);
+        registry.registerState(second, this);
+        assertNull(registry.getSlotLayout());
+
+        final StateSlotLayout layout = registry.freeze();
+        assertSame(layout, registry.getSlotLayout());
+        assertSame(layout, registry.freeze());
+        assertEquals(2, layout.size());
+        assertEquals(0, ((BaseState<?>) first).slotIn(layout));
+        assertEquals(1, ((BaseState<?>) second).slotIn(layout));
+    }
+
+    @Test
+    public void statesRegisteredAfterFreezeHaveNoSlot() {
+        final MutableState<String> frozen = mutableState("frozen");
+        registry.registerState(frozen, this);
+        final StateSlotLayout layout = registry.freeze();
+
+        final MutableState<String> late = mutableState("late");
+        registry.registerState(late, this);
+        assertEquals(2, registry.size());
+        assertEquals(1, layout.size());
+        assertEquals(-1, ((BaseState<?>) late).slotIn(layout));
+
+        final DefaultStateValueHost host = new DefaultStateValueHost();
+        host.useSlotLayout(layout);
+        assertEquals("frozen", frozen.get(host));
+        assertEquals("late", late.get(host));
+
+        late.set("updated", host);
+        assertEquals("updated", late.get(host));
+        assertEquals(2, host.getStateValues().size());
+    }
+
+    @Test
+    public void statesCanBeUnregisteredAfterFreeze() {
+        final MutableState<String> state = mutableState("value");
+        registry.registerState(state, this);
+        registry.freeze();
+
+        registry.unregisterState(state.internalId(), this);
+        assertEquals(0, registry.size());
+    }
+}
@@ -0,0 +1,171 @@
+package me.devnatan.inventoryframework.state;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+public class StateSnapshotTest {
+
+    private static final StateValueFactory MUTABLE_VALUE_FACTORY =
+            (host, state) -> new MutableValue(state.internalId(), null);
+
+    private final StateRegistry registry = new StateRegistry();
+
+    private State<?> registerState() {
+        final State<?> state = new BaseMutableState<>(State.next(), MUTABLE_VALUE_FACTORY);
+        registry.registerState(state, this);
+        return state;
+    }
+
+    private static Object valueOf(StateValueHost host, State<?> state) {
+        return host.getUninitializedStateValue(state.internalId()).get();
+    }
+
+    private static void initialize(StateValueHost host, State<?> state, Object value) {
+        host.initializeState(state.internalId(), new MutableValue(state.internalId(), value));
+    }
+
+    @Test
+    public void roundTrip() {
+        final State<?> intState = registerState();
+        final State<?> stringState = registerState();
+        final State<?> listState = registerState();
+        final State<?> nullState = registerState();
+
+        final StateValueHost host = new DefaultStateValueHost();
+        initialize(host, intState, 5);
+        initialize(host, stringState, "foo");
+        initialize(host, listState, new ArrayList<>(Arrays.asList("a", "b")));
+        initialize(host, nullState, null);
+
+        final StateSnapshot snapshot =
+                StateSnapshot.fromByteArray(StateSnapshot.capture(registry, host).toByteArray());
+        assertEquals(4, snapshot.size());
+
+        final StateValueHost restored = new DefaultStateValueHost();
+        snapshot.restore(registry, restored);
+        assertEquals(5, valueOf(restored, intState));
+        assertEquals("foo", valueOf(restored, stringState));
+        assertEquals(Arrays.asList("a", "b"), valueOf(restored, listState));
+        assertEquals(null, valueOf(restored, nullState));
+    }
+
+    @Test
+    public void serializableValuesAreCopiedOnEachRestore() {
+        final State<?> state = registerState();
+        final StateValueHost host = new DefaultStateValueHost();
+        initialize(host, state, new ArrayList<>(Collections.singletonList("a")));
+
+        final StateSnapshot snapshot = StateSnapshot.capture(registry, host);
+        final StateValueHost first = new DefaultStateValueHost();
+        final StateValueHost second = new DefaultStateValueHost();
+        snapshot.restore(registry, first);
+        snapshot.restore(registry, second);
+
+        assertNotSame(valueOf(host, state), valueOf(first, state));
+        assertNotSame(valueOf(first, state), valueOf(second, state));
+    }
+
+    @Test
+    public void notFullySerializableValuesAreNotCaptured() {
+        final State<?> serializable = registerState();
+        final State<?> notSerializable = registerState();
+        final State<?> notFullySerializable = registerState();
+
+        final StateValueHost host = new DefaultStateValueHost();
+        initialize(host, serializable, "foo");
+        initialize(host, notSerializable, new Object());
+        initialize(host, notFullySerializable, new ArrayList<>(Collections.singletonList(new Object())));
+
+        final StateSnapshot snapshot = StateSnapshot.capture(registry, host);
+        assertEquals(1, snapshot.size());
+        assertEquals(1, StateSnapshot.fromByteArray(snapshot.toByteArray()).size());
+    }
+
+    @Test
+    public void longStringRoundTrip() {
+        final State<?> state = registerState();
+        final StringBuilder builder = new StringBuilder();
+        while (builder.length() < 100_000) builder.append("a\u00e7\u00e3o-");
+
+        final String value = builder.toString();
+        final StateValueHost host = new DefaultStateValueHost();
+        initialize(host, state, value);
+
+        final StateSnapshot snapshot =
+                StateSnapshot.fromByteArray(StateSnapshot.capture(registry, host).toByteArray());
+        final StateValueHost restored = new DefaultStateValueHost();
+        snapshot.restore(registry, restored);
+        assertEquals(value, valueOf(restored, state));
+    }
+
+    @Test
+    public void classFilterRejectsValues() {
+        final State<?> state = registerState();
+        final StateValueHost host = new DefaultStateValueHost();
+        initialize(host, state, new ArrayList<>(Collections.singletonList("a")));
+
+        final byte[] bytes = StateSnapshot.capture(registry, host).toByteArray();
+        final StateSnapshot rejecting =
+                StateSnapshot.fromByteArray(bytes, className -> !className.equals(ArrayList.class.getName()));
+        assertThrows(StateException.class, () -> rejecting.restore(registry, new DefaultStateValueHost()));
+
+        final StateSnapshot accepting = StateSnapshot.fromByteArray(bytes, className -> className.startsWith("java."));
+        final StateValueHost restored = new DefaultStateValueHost();
+        accepting.restore(registry, restored);
+        assertEquals(Collections.singletonList("a"), valueOf(restored, state));
+    }
+
+    @Test
+    public void restoreIntoDifferentStates() {
+        registerState();
+        final StateSnapshot snapshot = StateSnapshot.capture(registry, new DefaultStateValueHost());
+
+        registerState();
+        assertThrows(StateException.class, () -> snapshot.restore(registry, new DefaultStateValueHost()));
+    }
+
+    @Test
+    public void readInvalidSnapshot() {
+        assertThrows(StateException.class, () -> StateSnapshot.fromByteArray(new byte[] {42}));
+    }
+
+    private static byte[] snapshotHeader(int stateCount, int size, int... indexes) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream data = new DataOutputStream(bytes);
+        data.writeByte(1);
+        data.writeInt(stateCount);
+        data.writeInt(size);
+        for (final int index : indexes) data.writeInt(index);
+        return bytes.toByteArray();
+    }
+
+    @Test
+    public void corruptSizesAreRejected() throws IOException {
+        final byte[] negativeStates = snapshotHeader(-1, 0);
+        final byte[] hugeSize = snapshotHeader(2, Integer.MAX_VALUE);
+        final byte[] negativeSize = snapshotHeader(2, -1);
+
+        assertThrows(IOException.class, () -> StateSnapshot.readFrom(new ByteArrayInputStream(negativeStates)));
+        assertThrows(IOException.class, () -> StateSnapshot.readFrom(new ByteArrayInputStream(hugeSize)));
+        assertThrows(IOException.class, () -> StateSnapshot.readFrom(new ByteArrayInputStream(negativeSize)));
+    }
+
+    @Test
+    public void corruptIndexesAreRejected() throws IOException {
+        final byte[] outOfBounds = snapshotHeader(2, 1, 2);
+        final byte[] negative = snapshotHeader(2, 1, -1);
+
+        assertThrows(IOException.class, () -> StateSnapshot.readFrom(new ByteArrayInputStream(outOfBounds)));
+        assertThrows(IOException.class, () -> StateSnapshot.readFrom(new ByteArrayInputStream(negative)));
+    }
+}
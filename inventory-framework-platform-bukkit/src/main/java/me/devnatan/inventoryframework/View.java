@@ -1,8 +1,10 @@
 package me.devnatan.inventoryframework;
 
+import java.util.concurrent.Executor;
 import me.devnatan.inventoryframework.component.BukkitItemComponentBuilder;
 import me.devnatan.inventoryframework.context.CloseContext;
 import me.devnatan.inventoryframework.context.Context;
+import me.devnatan.inventoryframework.context.IFCloseContext;
 import me.devnatan.inventoryframework.context.OpenContext;
 import me.devnatan.inventoryframework.context.RenderContext;
 import me.devnatan.inventoryframework.context.SlotClickContext;
@@ -41,10 +43,21 @@ public class View
     @Override
     public final void registerPlatformInterceptors() {
         final Pipeline<? super VirtualView> pipeline = getPipeline();
-        pipeline.intercept(StandardPipelinePhases.CLICK, new ItemClickInterceptor());
-        pipeline.intercept(StandardPipelinePhases.CLICK, new GlobalClickInterceptor());
-        pipeline.intercept(StandardPipelinePhases.CLICK, new ItemCloseOnClickInterceptor());
-        pipeline.intercept(StandardPipelinePhases.CLOSE, new CancelledCloseInterceptor());
+        pipeline.intercept(StandardPipelinePhases.CLICK, SlotClickContext.class, new ItemClickInterceptor());
+        pipeline.intercept(StandardPipelinePhases.CLICK, SlotClickContext.class, new GlobalClickInterceptor());
+        pipeline.intercept(StandardPipelinePhases.CLICK, SlotClickContext.class, new ItemCloseOnClickInterceptor());
+        pipeline.intercept(StandardPipelinePhases.CLOSE, IFCloseContext.class, new CancelledCloseInterceptor());
+
+        // Suspended executions must be resumed in the main thread since interceptors uses Bukkit API
+        pipeline.setResumeExecutor(getPlatformExecutor());
+    }
+
+    @Override
+    public final @NotNull Executor getPlatformExecutor() {
+        return task -> {
+            if (Bukkit.isPrimaryThread()) task.run();
+            else nextTick(task);
+        };
     }
 
     @Override
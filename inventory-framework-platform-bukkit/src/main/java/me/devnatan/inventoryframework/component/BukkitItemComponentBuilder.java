@@ -27,7 +27,7 @@ public class BukkitItemComponentBuilder<SELF> extends BukkitComponentBuilder<SEL
                 isCancelOnClick(),
                 isCloseOnClick(),
                 isUpdateOnClick());
-        component.setHandle(new BukkitItemComponentImplHandle());
+        component.setHandle(BukkitItemComponentImplHandle.INSTANCE);
         return component;
     }
 
@@ -50,7 +50,7 @@ public final class BukkitItemComponentImpl extends PlatformComponent implements
                 updateOnClick);
         this.position = position;
         this.stack = itemStack;
-        setHandle(new BukkitItemComponentImplHandle());
+        setHandle(BukkitItemComponentImplHandle.INSTANCE);
     }
 
     @Override
@@ -58,7 +58,8 @@ public final class BukkitItemComponentImpl extends PlatformComponent implements
         return position;
     }
 
-    void setPosition(int position) {
+    @Override
+    public void setPosition(int position) {
         this.position = position;
     }
 
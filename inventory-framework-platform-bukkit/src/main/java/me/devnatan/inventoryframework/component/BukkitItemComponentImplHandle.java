@@ -12,6 +12,14 @@ import org.jetbrains.annotations.NotNull;
 @ApiStatus.Internal
 public final class BukkitItemComponentImplHandle extends BukkitComponentHandle<BukkitItemComponentBuilder<Void>> {
 
+    /**
+     * This handle is stateless, so a single instance is shared by all item components and so is
+     * its {@link #getSharedPipeline() pipeline}.
+     */
+    static final BukkitItemComponentImplHandle INSTANCE = new BukkitItemComponentImplHandle();
+
+    private BukkitItemComponentImplHandle() {}
+
     @Override
     public void rendered(@NotNull ComponentRenderContext context) {
         final BukkitItemComponentImpl component = (BukkitItemComponentImpl) context.getComponent();
@@ -11,6 +11,7 @@ import me.devnatan.inventoryframework.Viewer;
 import me.devnatan.inventoryframework.state.State;
 import me.devnatan.inventoryframework.state.StateValue;
 import me.devnatan.inventoryframework.state.StateWatcher;
+import me.devnatan.inventoryframework.state.StateWatcherRegistration;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -111,8 +112,13 @@ public class CloseContext extends PlatformConfinedContext implements IFCloseCont
     }
 
     @Override
-    public final void watchState(long id, StateWatcher listener) {
-        getParent().watchState(id, listener);
+    public final StateWatcherRegistration watchState(long id, StateWatcher listener) {
+        return getParent().watchState(id, listener);
+    }
+
+    @Override
+    public final long getStateVersion() {
+        return getParent().getStateVersion();
     }
 
     @Override
@@ -135,6 +141,11 @@ public class CloseContext extends PlatformConfinedContext implements IFCloseCont
         getParent().updateState(id, value);
     }
 
+    @Override
+    public final void primitiveStateUpdated(@NotNull StateValue value, long oldValue, long newValue) {
+        getParent().primitiveStateUpdated(value, oldValue, newValue);
+    }
+
     @Override
     public String toString() {
         return "CloseContext{" + "subject="
@@ -10,6 +10,7 @@ import me.devnatan.inventoryframework.Viewer;
 import me.devnatan.inventoryframework.state.State;
 import me.devnatan.inventoryframework.state.StateValue;
 import me.devnatan.inventoryframework.state.StateWatcher;
+import me.devnatan.inventoryframework.state.StateWatcherRegistration;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
@@ -85,8 +86,18 @@ public abstract class SlotContext extends PlatformContext implements IFSlotConte
     }
 
     @Override
-    public final void watchState(long id, StateWatcher listener) {
-        getParent().watchState(id, listener);
+    public final void primitiveStateUpdated(@NotNull StateValue value, long oldValue, long newValue) {
+        getParent().primitiveStateUpdated(value, oldValue, newValue);
+    }
+
+    @Override
+    public final StateWatcherRegistration watchState(long id, StateWatcher listener) {
+        return getParent().watchState(id, listener);
+    }
+
+    @Override
+    public final long getStateVersion() {
+        return getParent().getStateVersion();
     }
 
     @Override
@@ -11,10 +11,13 @@ import java.util.stream.Collectors;
 import me.devnatan.inventoryframework.context.EndlessContextInfo;
 import me.devnatan.inventoryframework.context.IFContext;
 import me.devnatan.inventoryframework.pipeline.Pipeline;
+import me.devnatan.inventoryframework.pipeline.PipelineMetrics;
 import me.devnatan.inventoryframework.pipeline.PipelinePhase;
+import me.devnatan.inventoryframework.state.StateSnapshot;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnmodifiableView;
 
 abstract class IFViewFrame<S extends IFViewFrame<S, V>, V extends PlatformView<S, ?, ?, ?, ?, ?, ?, ?>> {
@@ -33,6 +36,7 @@ abstract class IFViewFrame<S extends IFViewFrame<S, V>, V extends PlatformView<S
     protected final Map<UUID, V> registeredViews = new HashMap<>();
     protected final Map<String, Viewer> viewerById = new HashMap<>();
     protected Consumer<ViewConfigBuilder> defaultConfig;
+    private boolean pipelineMetricsEnabled;
 
     @SuppressWarnings("rawtypes")
     private final Pipeline<IFViewFrame> pipeline = new Pipeline<>(FRAME_REGISTERED, FRAME_UNREGISTERED);
@@ -92,6 +96,7 @@ abstract class IFViewFrame<S extends IFViewFrame<S, V>, V extends PlatformView<S
                         "Registered view \"%s\" identified as %s",
                         view.getUniqueId(), view.getClass().getSimpleName());
                 registeredViews.put(view.getUniqueId(), view);
+                if (pipelineMetricsEnabled) view.getPipeline().enableMetrics();
             }
         }
         return (S) this;
@@ -206,11 +211,54 @@ abstract class IFViewFrame<S extends IFViewFrame<S, V>, V extends PlatformView<S
     @ApiStatus.Experimental
     public final EndlessContextInfo createEndlessContext(
             @NotNull Class<? extends RootView> viewClass, Object initialData) {
+        return createEndlessContext(viewClass, initialData, null);
+    }
+
+    /**
+     * Creates a context that is never invalidated with state values restored from a snapshot.
+     * <p>
+     * This can be used to recreate an endless context after a restart from a snapshot taken
+     * through {@link #snapshotEndlessContext(EndlessContextInfo)}.
+     * <p>
+     * <b><i> This API is experimental and is not subject to the general compatibility guarantees
+     * such API may be changed or may be removed completely in any further release. </i></b>
+     *
+     * @param viewClass The view of the context to be later opened.
+     * @param initialData Initial setup data to pass to opening handler.
+     * @param snapshot State values to restore in the context, can be {@code null}.
+     * @return The id of the context.
+     * @throws me.devnatan.inventoryframework.state.StateException If the snapshot was taken from a
+     * view whose states are declared differently.
+     */
+    @ApiStatus.Experimental
+    public final EndlessContextInfo createEndlessContext(
+            @NotNull Class<? extends RootView> viewClass, Object initialData, @Nullable StateSnapshot snapshot) {
         final V view = getRegisteredViewByType(viewClass);
-        final String context = view.createEndless(initialData);
+        final String context = view.createEndless(initialData, snapshot);
         return new EndlessContextInfo(context, view);
     }
 
+    /**
+     * Captures the mutable and initial data state values of an endless context.
+     * <p>
+     * <b><i> This API is experimental and is not subject to the general compatibility guarantees
+     * such API may be changed or may be removed completely in any further release. </i></b>
+     *
+     * @param endlessContext The endless context.
+     * @return A snapshot of the context state values.
+     * @throws IllegalArgumentException If the context is no longer active.
+     * @see me.devnatan.inventoryframework.state.StateSnapshotStore
+     */
+    @ApiStatus.Experimental
+    public final @NotNull StateSnapshot snapshotEndlessContext(@NotNull EndlessContextInfo endlessContext) {
+        final V view = getRegisteredViewByType(endlessContext.getView().getClass());
+        for (final IFContext context : view.getInternalContexts()) {
+            if (context.getId().toString().equals(endlessContext.getContextId())) return view.snapshot(context);
+        }
+
+        throw new IllegalArgumentException("Context not found: " + endlessContext.getContextId());
+    }
+
     void addViewer(@NotNull Viewer viewer) {
         synchronized (viewerById) {
             viewerById.put(viewer.getId(), viewer);
@@ -250,6 +298,45 @@ abstract class IFViewFrame<S extends IFViewFrame<S, V>, V extends PlatformView<S
         return defaultConfig;
     }
 
+    /**
+     * Enables collection of pipeline metrics for all views registered in this framework.
+     * <p>
+     * Pipeline metrics records call counts and latencies of each pipeline phase and interceptor
+     * so the ones that are slowing down clicks, updates and renders can be found.
+     * <p>
+     * <b><i> This API is experimental and is not subject to the general compatibility guarantees
+     * such API may be changed or may be removed completely in any further release. </i></b>
+     *
+     * @return This framework instance.
+     * @see #getPipelineMetrics(Class)
+     */
+    @SuppressWarnings("unchecked")
+    @ApiStatus.Experimental
+    public final S enablePipelineMetrics() {
+        synchronized (registeredViews) {
+            pipelineMetricsEnabled = true;
+            for (final V view : registeredViews.values()) view.getPipeline().enableMetrics();
+        }
+        return (S) this;
+    }
+
+    /**
+     * Creates a snapshot of the pipeline metrics of a registered view.
+     * <p>
+     * <b><i> This API is experimental and is not subject to the general compatibility guarantees
+     * such API may be changed or may be removed completely in any further release. </i></b>
+     *
+     * @param viewClass The view type.
+     * @return A snapshot of the view pipeline metrics or {@code null} if pipeline metrics are not enabled.
+     * @throws IllegalArgumentException If the given view is not registered.
+     * @see #enablePipelineMetrics()
+     */
+    @ApiStatus.Experimental
+    public final @Nullable PipelineMetrics.Snapshot getPipelineMetrics(@NotNull Class<? extends V> viewClass) {
+        final PipelineMetrics metrics = getRegisteredViewByType(viewClass).getPipeline().getMetrics();
+        return metrics == null ? null : metrics.snapshot();
+    }
+
     /**
      * Enables internal code debugs.
      * <p>
@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import me.devnatan.inventoryframework.component.*;
@@ -41,10 +42,12 @@ import me.devnatan.inventoryframework.pipeline.UpdateInterceptor;
 import me.devnatan.inventoryframework.pipeline.ViewerLastInteractionTrackerInterceptor;
 import me.devnatan.inventoryframework.state.InitialDataStateValue;
 import me.devnatan.inventoryframework.state.MutableIntState;
+import me.devnatan.inventoryframework.state.MutableLongState;
 import me.devnatan.inventoryframework.state.MutableState;
 import me.devnatan.inventoryframework.state.State;
 import me.devnatan.inventoryframework.state.StateAccess;
 import me.devnatan.inventoryframework.state.StateAccessImpl;
+import me.devnatan.inventoryframework.state.StateSnapshot;
 import me.devnatan.inventoryframework.state.StateValue;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -77,10 +80,12 @@ public abstract class PlatformView<
      * Setups a endless context.
      *
      * @param initialData Initial data to pass through opening handler.
+     * @param snapshot    State values to restore in the context, can be {@code null}.
      * @return The id of the generated context.
      */
-    final String createEndless(Object initialData) {
+    final String createEndless(Object initialData, StateSnapshot snapshot) {
         final IFOpenContext context = getElementFactory().createOpenContext(this, null, new ArrayList<>(), initialData);
+        if (snapshot != null) snapshot.restore(getStateRegistry(), context);
 
         context.setEndless(true);
         getPipeline().execute(StandardPipelinePhases.OPEN, context);
@@ -132,6 +137,21 @@ public abstract class PlatformView<
     }
     // endregion
 
+    /**
+     * Captures the mutable and initial data state values of a context of this view.
+     *
+     * <p><b><i> This API is experimental and is not subject to the general compatibility guarantees
+     * such API may be changed or may be removed completely in any further release. </i></b>
+     *
+     * @param context The context.
+     * @return A snapshot of the context state values.
+     * @see StateSnapshot
+     */
+    @ApiStatus.Experimental
+    public final @NotNull StateSnapshot snapshot(@NotNull IFContext context) {
+        return StateSnapshot.capture(getStateRegistry(), context);
+    }
+
     // region Navigation
     /**
      * <p><b><i>This is an internal inventory-framework API that should not be used from outside of
@@ -347,6 +367,11 @@ public abstract class PlatformView<
         if (target.getViewers().isEmpty()) {
             target.setActive(false);
             removeContext(target);
+
+            // Clearing paginations releases resources held by them such as streaming source iterators
+            for (final Component component : target.getComponents()) {
+                if (component instanceof Pagination) component.getExecutionPipeline().execute(Component.CLEAR, target);
+            }
         }
     }
 
@@ -590,23 +615,34 @@ public abstract class PlatformView<
         this.framework = (FRAMEWORK) framework;
 
         final Pipeline<? super VirtualView> pipeline = getPipeline();
-        pipeline.intercept(StandardPipelinePhases.INIT, new PlatformInitInterceptor());
-        pipeline.intercept(StandardPipelinePhases.OPEN, new PlatformOpenInterceptor());
-        pipeline.intercept(StandardPipelinePhases.LAYOUT_RESOLUTION, new LayoutResolutionInterceptor());
-        pipeline.intercept(StandardPipelinePhases.FIRST_RENDER, new PlatformRenderInterceptor());
-        pipeline.intercept(StandardPipelinePhases.FIRST_RENDER, new LayoutRenderInterceptor());
-        pipeline.intercept(StandardPipelinePhases.FIRST_RENDER, new AvailableSlotInterceptor());
-        pipeline.intercept(StandardPipelinePhases.FIRST_RENDER, new FirstRenderInterceptor());
-        pipeline.intercept(StandardPipelinePhases.FIRST_RENDER, new ScheduledUpdateAfterRenderInterceptor());
-        pipeline.intercept(StandardPipelinePhases.UPDATE, new PlatformUpdateHandlerInterceptor());
-        pipeline.intercept(StandardPipelinePhases.UPDATE, new UpdateInterceptor());
-        pipeline.intercept(StandardPipelinePhases.CLOSE, new PlatformCloseInterceptor());
-        pipeline.intercept(StandardPipelinePhases.CLOSE, new ScheduledUpdateAfterCloseInterceptor());
-        pipeline.intercept(StandardPipelinePhases.CLOSE, new ContextInvalidationOnCloseInterceptor());
-        pipeline.intercept(StandardPipelinePhases.CLICK, new ViewerLastInteractionTrackerInterceptor());
-        pipeline.intercept(StandardPipelinePhases.CLICK, new ComponentClickHandlerCallInterceptor());
+        pipeline.intercept(StandardPipelinePhases.INIT, RootView.class, new PlatformInitInterceptor());
+        pipeline.intercept(StandardPipelinePhases.OPEN, IFOpenContext.class, new PlatformOpenInterceptor());
+        pipeline.intercept(
+                StandardPipelinePhases.LAYOUT_RESOLUTION, IFRenderContext.class, new LayoutResolutionInterceptor());
+        pipeline.intercept(StandardPipelinePhases.FIRST_RENDER, IFRenderContext.class, new PlatformRenderInterceptor());
+        pipeline.intercept(StandardPipelinePhases.FIRST_RENDER, IFRenderContext.class, new LayoutRenderInterceptor());
+        pipeline.intercept(StandardPipelinePhases.FIRST_RENDER, IFRenderContext.class, new AvailableSlotInterceptor());
+        pipeline.intercept(StandardPipelinePhases.FIRST_RENDER, IFRenderContext.class, new FirstRenderInterceptor());
+        pipeline.intercept(
+                StandardPipelinePhases.FIRST_RENDER,
+                IFRenderContext.class,
+                new ScheduledUpdateAfterRenderInterceptor());
+        pipeline.intercept(StandardPipelinePhases.UPDATE, IFContext.class, new PlatformUpdateHandlerInterceptor());
+        pipeline.intercept(StandardPipelinePhases.UPDATE, IFRenderContext.class, new UpdateInterceptor());
+        pipeline.intercept(StandardPipelinePhases.CLOSE, IFCloseContext.class, new PlatformCloseInterceptor());
+        pipeline.intercept(
+                StandardPipelinePhases.CLOSE, IFCloseContext.class, new ScheduledUpdateAfterCloseInterceptor());
+        pipeline.intercept(
+                StandardPipelinePhases.CLOSE, IFCloseContext.class, new ContextInvalidationOnCloseInterceptor());
+        pipeline.guard(
+                StandardPipelinePhases.CLICK, IFSlotClickContext.class, new ViewerLastInteractionTrackerInterceptor());
+        pipeline.intercept(
+                StandardPipelinePhases.CLICK, IFSlotClickContext.class, new ComponentClickHandlerCallInterceptor());
         registerPlatformInterceptors();
         pipeline.execute(StandardPipelinePhases.INIT, this);
+
+        // states are declared in the constructor or #onInit, so they're all known at this point
+        getStateRegistry().freeze();
     }
 
     abstract void registerPlatformInterceptors();
@@ -636,6 +672,12 @@ public abstract class PlatformView<
         return stateAccess.mutableState(initialValue);
     }
 
+    @Override
+    public final MutableLongState mutableState(long initialValue) {
+        requireNotInitialized();
+        return stateAccess.mutableState(initialValue);
+    }
+
     @Override
     public final <T> State<T> computedState(@NotNull Function<PLATFORM_CONTEXT, T> computation) {
         requireNotInitialized();
@@ -648,6 +690,25 @@ public abstract class PlatformView<
         return stateAccess.computedState(computation);
     }
 
+    @Override
+    public final <T> State<T> memoizedState(@NotNull Function<PLATFORM_CONTEXT, T> computation) {
+        requireNotInitialized();
+        return stateAccess.memoizedState(computation);
+    }
+
+    @Override
+    public final <A, T> State<T> derivedState(@NotNull State<A> input, @NotNull Function<A, T> derivation) {
+        requireNotInitialized();
+        return stateAccess.derivedState(input, derivation);
+    }
+
+    @Override
+    public final <A, B, T> State<T> derivedState(
+            @NotNull State<A> first, @NotNull State<B> second, @NotNull BiFunction<A, B, T> derivation) {
+        requireNotInitialized();
+        return stateAccess.derivedState(first, second, derivation);
+    }
+
     @Override
     public final <T> State<T> lazyState(@NotNull Function<PLATFORM_CONTEXT, T> computation) {
         requireNotInitialized();
@@ -720,6 +781,22 @@ public abstract class PlatformView<
         return stateAccess.lazyAsyncPaginationState(sourceProvider, valueConsumer);
     }
 
+    @Override
+    public final <T> State<Pagination> windowedPaginationState(
+            @NotNull WindowedPaginationSource<PLATFORM_CONTEXT, T> sourceProvider,
+            @NotNull PaginationValueConsumer<PLATFORM_CONTEXT, ITEM_BUILDER, T> valueConsumer) {
+        requireNotInitialized();
+        return stateAccess.windowedPaginationState(sourceProvider, valueConsumer);
+    }
+
+    @Override
+    public final <T> State<Pagination> streamingPaginationState(
+            @NotNull StreamingPaginationSource<PLATFORM_CONTEXT, T> sourceProvider,
+            @NotNull PaginationValueConsumer<PLATFORM_CONTEXT, ITEM_BUILDER, T> valueConsumer) {
+        requireNotInitialized();
+        return stateAccess.streamingPaginationState(sourceProvider, valueConsumer);
+    }
+
     @Override
     public final <T> PaginationBuilder<PLATFORM_CONTEXT, ITEM_BUILDER, T> buildPaginationState(
             @NotNull List<? super T> sourceProvider) {
@@ -761,5 +838,19 @@ public abstract class PlatformView<
         requireNotInitialized();
         return stateAccess.buildLazyAsyncPaginationState(sourceProvider);
     }
+
+    @Override
+    public final <T> PaginationBuilder<PLATFORM_CONTEXT, ITEM_BUILDER, T> buildWindowedPaginationState(
+            @NotNull WindowedPaginationSource<PLATFORM_CONTEXT, T> sourceProvider) {
+        requireNotInitialized();
+        return stateAccess.buildWindowedPaginationState(sourceProvider);
+    }
+
+    @Override
+    public final <T> PaginationBuilder<PLATFORM_CONTEXT, ITEM_BUILDER, T> buildStreamingPaginationState(
+            @NotNull StreamingPaginationSource<PLATFORM_CONTEXT, T> sourceProvider) {
+        requireNotInitialized();
+        return stateAccess.buildStreamingPaginationState(sourceProvider);
+    }
     // endregion
 }
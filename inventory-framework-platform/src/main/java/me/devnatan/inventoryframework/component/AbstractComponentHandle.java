@@ -2,10 +2,12 @@ package me.devnatan.inventoryframework.component;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import me.devnatan.inventoryframework.VirtualView;
 import me.devnatan.inventoryframework.state.MutableIntState;
+import me.devnatan.inventoryframework.state.MutableLongState;
 import me.devnatan.inventoryframework.state.MutableState;
 import me.devnatan.inventoryframework.state.State;
 import me.devnatan.inventoryframework.state.StateAccess;
@@ -16,63 +18,91 @@ import org.jetbrains.annotations.NotNull;
 public abstract class AbstractComponentHandle<CONTEXT, COMPONENT_BUILDER> extends ComponentHandle
         implements StateAccess<CONTEXT, COMPONENT_BUILDER>, VirtualView {
 
-    private final StateRegistry stateRegistry = new StateRegistry();
-    private final StateAccess<CONTEXT, COMPONENT_BUILDER> stateAccess = new StateAccessImpl<>(this, stateRegistry);
+    /**
+     * Created on first state declaration, most handles declare no states at all.
+     */
+    private StateAccess<CONTEXT, COMPONENT_BUILDER> stateAccess;
 
     protected AbstractComponentHandle() {}
 
+    private StateAccess<CONTEXT, COMPONENT_BUILDER> stateAccess() {
+        if (stateAccess == null) stateAccess = new StateAccessImpl<>(this, new StateRegistry());
+        return stateAccess;
+    }
+
     public abstract COMPONENT_BUILDER builder();
 
     @Override
     public final <T> State<T> state(T initialValue) {
-        return stateAccess.state(initialValue);
+        return stateAccess().state(initialValue);
     }
 
     @Override
     public final <T> MutableState<T> mutableState(T initialValue) {
-        return stateAccess.mutableState(initialValue);
+        return stateAccess().mutableState(initialValue);
     }
 
     @Override
     public final MutableIntState mutableState(int initialValue) {
-        return stateAccess.mutableState(initialValue);
+        return stateAccess().mutableState(initialValue);
+    }
+
+    @Override
+    public final MutableLongState mutableState(long initialValue) {
+        return stateAccess().mutableState(initialValue);
     }
 
     @Override
     public final <T> State<T> computedState(@NotNull Function<CONTEXT, T> computation) {
-        return stateAccess.computedState(computation);
+        return stateAccess().computedState(computation);
     }
 
     @Override
     public final <T> State<T> computedState(@NotNull Supplier<T> computation) {
-        return stateAccess.computedState(computation);
+        return stateAccess().computedState(computation);
+    }
+
+    @Override
+    public final <T> State<T> memoizedState(@NotNull Function<CONTEXT, T> computation) {
+        return stateAccess().memoizedState(computation);
+    }
+
+    @Override
+    public final <A, T> State<T> derivedState(@NotNull State<A> input, @NotNull Function<A, T> derivation) {
+        return stateAccess().derivedState(input, derivation);
+    }
+
+    @Override
+    public final <A, B, T> State<T> derivedState(
+            @NotNull State<A> first, @NotNull State<B> second, @NotNull BiFunction<A, B, T> derivation) {
+        return stateAccess().derivedState(first, second, derivation);
     }
 
     @Override
     public final <T> State<T> lazyState(@NotNull Function<CONTEXT, T> computation) {
-        return stateAccess.lazyState(computation);
+        return stateAccess().lazyState(computation);
     }
 
     @Override
     public final <T> State<T> lazyState(@NotNull Supplier<T> computation) {
-        return stateAccess.lazyState(computation);
+        return stateAccess().lazyState(computation);
     }
 
     @Override
     public final <T> MutableState<T> initialState() {
-        return stateAccess.initialState();
+        return stateAccess().initialState();
     }
 
     @Override
     public final <T> MutableState<T> initialState(@NotNull String key) {
-        return stateAccess.initialState(key);
+        return stateAccess().initialState(key);
     }
 
     @Override
     public final <T> State<Pagination> paginationState(
             @NotNull List<? super T> sourceProvider,
             @NotNull PaginationValueConsumer<CONTEXT, COMPONENT_BUILDER, T> elementConsumer) {
-        return stateAccess.paginationState(sourceProvider, elementConsumer);
+        return stateAccess().paginationState(sourceProvider, elementConsumer);
     }
 
     @Override
@@ -80,14 +110,14 @@ public abstract class AbstractComponentHandle<CONTEXT, COMPONENT_BUILDER> extend
             @NotNull Function<CONTEXT, List<? super T>> sourceProvider,
             @NotNull PaginationValueConsumer<CONTEXT, COMPONENT_BUILDER, T> valueConsumer) {
 
-        return stateAccess.computedPaginationState(sourceProvider, valueConsumer);
+        return stateAccess().computedPaginationState(sourceProvider, valueConsumer);
     }
 
     @Override
     public final <T> State<Pagination> computedAsyncPaginationState(
             @NotNull Function<CONTEXT, CompletableFuture<List<T>>> sourceProvider,
             @NotNull PaginationValueConsumer<CONTEXT, COMPONENT_BUILDER, T> valueConsumer) {
-        return stateAccess.computedAsyncPaginationState(sourceProvider, valueConsumer);
+        return stateAccess().computedAsyncPaginationState(sourceProvider, valueConsumer);
     }
 
     @Override
@@ -95,14 +125,14 @@ public abstract class AbstractComponentHandle<CONTEXT, COMPONENT_BUILDER> extend
             @NotNull Function<CONTEXT, List<? super T>> sourceProvider,
             @NotNull PaginationValueConsumer<CONTEXT, COMPONENT_BUILDER, T> valueConsumer) {
 
-        return stateAccess.lazyPaginationState(sourceProvider, valueConsumer);
+        return stateAccess().lazyPaginationState(sourceProvider, valueConsumer);
     }
 
     @Override
     public final <T> State<Pagination> lazyPaginationState(
             @NotNull Supplier<List<? super T>> sourceProvider,
             @NotNull PaginationValueConsumer<CONTEXT, COMPONENT_BUILDER, T> valueConsumer) {
-        return stateAccess.lazyPaginationState(sourceProvider, valueConsumer);
+        return stateAccess().lazyPaginationState(sourceProvider, valueConsumer);
     }
 
     @Override
@@ -110,43 +140,69 @@ public abstract class AbstractComponentHandle<CONTEXT, COMPONENT_BUILDER> extend
             @NotNull Function<CONTEXT, CompletableFuture<List<T>>> sourceProvider,
             @NotNull PaginationValueConsumer<CONTEXT, COMPONENT_BUILDER, T> valueConsumer) {
 
-        return stateAccess.lazyAsyncPaginationState(sourceProvider, valueConsumer);
+        return stateAccess().lazyAsyncPaginationState(sourceProvider, valueConsumer);
+    }
+
+    @Override
+    public final <T> State<Pagination> windowedPaginationState(
+            @NotNull WindowedPaginationSource<CONTEXT, T> sourceProvider,
+            @NotNull PaginationValueConsumer<CONTEXT, COMPONENT_BUILDER, T> valueConsumer) {
+        return stateAccess().windowedPaginationState(sourceProvider, valueConsumer);
+    }
+
+    @Override
+    public final <T> State<Pagination> streamingPaginationState(
+            @NotNull StreamingPaginationSource<CONTEXT, T> sourceProvider,
+            @NotNull PaginationValueConsumer<CONTEXT, COMPONENT_BUILDER, T> valueConsumer) {
+        return stateAccess().streamingPaginationState(sourceProvider, valueConsumer);
     }
 
     @Override
     public final <T> PaginationBuilder<CONTEXT, COMPONENT_BUILDER, T> buildPaginationState(
             @NotNull List<? super T> sourceProvider) {
-        return stateAccess.buildPaginationState(sourceProvider);
+        return stateAccess().buildPaginationState(sourceProvider);
     }
 
     @Override
     public final <T> PaginationBuilder<CONTEXT, COMPONENT_BUILDER, T> buildComputedPaginationState(
             @NotNull Function<CONTEXT, List<? super T>> sourceProvider) {
-        return stateAccess.buildComputedPaginationState(sourceProvider);
+        return stateAccess().buildComputedPaginationState(sourceProvider);
     }
 
     @Override
     public final <T> PaginationBuilder<CONTEXT, COMPONENT_BUILDER, T> buildComputedAsyncPaginationState(
             @NotNull Function<CONTEXT, CompletableFuture<List<T>>> sourceProvider) {
-        return stateAccess.buildComputedAsyncPaginationState(sourceProvider);
+        return stateAccess().buildComputedAsyncPaginationState(sourceProvider);
     }
 
     @Override
     public final <T> PaginationBuilder<CONTEXT, COMPONENT_BUILDER, T> buildLazyPaginationState(
             @NotNull Supplier<List<? super T>> sourceProvider) {
-        return stateAccess.buildLazyPaginationState(sourceProvider);
+        return stateAccess().buildLazyPaginationState(sourceProvider);
     }
 
     @Override
     public final <T> PaginationBuilder<CONTEXT, COMPONENT_BUILDER, T> buildLazyPaginationState(
             @NotNull Function<CONTEXT, List<? super T>> sourceProvider) {
-        return stateAccess.buildLazyPaginationState(sourceProvider);
+        return stateAccess().buildLazyPaginationState(sourceProvider);
     }
 
     @Override
     public final <T> PaginationBuilder<CONTEXT, COMPONENT_BUILDER, T> buildLazyAsyncPaginationState(
             @NotNull Function<CONTEXT, CompletableFuture<List<T>>> sourceProvider) {
-        return stateAccess.buildLazyAsyncPaginationState(sourceProvider);
+        return stateAccess().buildLazyAsyncPaginationState(sourceProvider);
+    }
+
+    @Override
+    public final <T> PaginationBuilder<CONTEXT, COMPONENT_BUILDER, T> buildWindowedPaginationState(
+            @NotNull WindowedPaginationSource<CONTEXT, T> sourceProvider) {
+        return stateAccess().buildWindowedPaginationState(sourceProvider);
+    }
+
+    @Override
+    public final <T> PaginationBuilder<CONTEXT, COMPONENT_BUILDER, T> buildStreamingPaginationState(
+            @NotNull StreamingPaginationSource<CONTEXT, T> sourceProvider) {
+        return stateAccess().buildStreamingPaginationState(sourceProvider);
     }
     // endregion
 }
@@ -1,6 +1,8 @@
 package me.devnatan.inventoryframework.component;
 
+import java.time.Duration;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 import me.devnatan.inventoryframework.VirtualView;
 import me.devnatan.inventoryframework.internal.LayoutSlot;
 import me.devnatan.inventoryframework.internal.PlatformUtils;
@@ -15,7 +17,10 @@ public final class PaginationBuilder<CONTEXT, BUILDER, V>
     private char layoutTarget = LayoutSlot.DEFAULT_SLOT_FILL_CHAR;
     private PaginationElementFactory<V> paginationElementFactory;
     private BiConsumer<CONTEXT, Pagination> pageSwitchHandler;
+    private Function<? super V, ?> elementKeyFactory;
     private final boolean async, computed;
+    private int maxCachedPages;
+    private Duration cachedPagesExpiration;
 
     /**
      * <b><i> This is an internal inventory-framework API that should not be used from outside of
@@ -103,6 +108,80 @@ public final class PaginationBuilder<CONTEXT, BUILDER, V>
         return this;
     }
 
+    /**
+     * Identifies each paginated element by a key, so components of elements that are still on the
+     * page after a page switch or update are reused instead of created again.
+     * <p>
+     * Components of elements whose key and value are {@link Object#equals(Object) equal} to an
+     * element of the previous page are kept, or moved if the element is now in another position,
+     * and only created again if the element value has changed. Slots of unchanged elements are not
+     * rendered again.
+     * <p>
+     * Keys must be unique in a page, only the first element of duplicated keys is reused.
+     * <p>
+     * <b><i> This API is experimental and is not subject to the general compatibility guarantees
+     * such API may be changed or may be removed completely in any further release. </i></b>
+     *
+     * @param keyFactory The function that returns the key of an element.
+     * @return This pagination state builder.
+     */
+    @ApiStatus.Experimental
+    public PaginationBuilder<CONTEXT, BUILDER, V> elementKey(@NotNull Function<? super V, ?> keyFactory) {
+        this.elementKeyFactory = keyFactory;
+        return this;
+    }
+
+    /**
+     * Caches up to {@code maxPages} pages loaded from the data source, so switching back to a page
+     * that was recently loaded doesn't call the data source again.
+     * <p>
+     * Pages of {@link me.devnatan.inventoryframework.state.StateAccess#windowedPaginationState
+     * windowed} data sources next to the current page are also loaded in background after the
+     * current page is loaded, so they're immediately available when switched to.
+     * <p>
+     * Cached pages are invalidated when the pagination is {@link Pagination#forceUpdate() force updated}.
+     * Static data sources are never cached since they're already kept entirely in memory.
+     * <p>
+     * <b><i> This API is experimental and is not subject to the general compatibility guarantees
+     * such API may be changed or may be removed completely in any further release. </i></b>
+     *
+     * @param maxPages Maximum number of cached pages, least recently used pages are removed first.
+     * @return This pagination state builder.
+     */
+    @ApiStatus.Experimental
+    public PaginationBuilder<CONTEXT, BUILDER, V> cachePages(int maxPages) {
+        return cachePages(maxPages, null);
+    }
+
+    /**
+     * Caches up to {@code maxPages} pages loaded from the data source for at most the given
+     * expiration time, so switching back to a page that was recently loaded doesn't call the data
+     * source again.
+     * <p>
+     * Pages of {@link me.devnatan.inventoryframework.state.StateAccess#windowedPaginationState
+     * windowed} data sources next to the current page are also loaded in background after the
+     * current page is loaded, so they're immediately available when switched to.
+     * <p>
+     * Cached pages are invalidated when the pagination is {@link Pagination#forceUpdate() force updated}.
+     * Static data sources are never cached since they're already kept entirely in memory.
+     * <p>
+     * <b><i> This API is experimental and is not subject to the general compatibility guarantees
+     * such API may be changed or may be removed completely in any further release. </i></b>
+     *
+     * @param maxPages   Maximum number of cached pages, least recently used pages are removed first.
+     * @param expiration Time after which a cached page is loaded again or {@code null} to never expire.
+     * @return This pagination state builder.
+     * @throws IllegalArgumentException If the maximum number of cached pages is not positive.
+     */
+    @ApiStatus.Experimental
+    public PaginationBuilder<CONTEXT, BUILDER, V> cachePages(int maxPages, Duration expiration) {
+        if (maxPages <= 0) throw new IllegalArgumentException("Maximum number of cached pages must be positive");
+
+        this.maxCachedPages = maxPages;
+        this.cachedPagesExpiration = expiration;
+        return this;
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public Component buildComponent(VirtualView root) {
@@ -118,7 +197,10 @@ public final class PaginationBuilder<CONTEXT, BUILDER, V>
                 sourceProvider,
                 (PaginationElementFactory) paginationElementFactory,
                 (BiConsumer) pageSwitchHandler,
+                (Function) elementKeyFactory,
                 async,
-                computed);
+                computed,
+                maxCachedPages,
+                cachedPagesExpiration);
     }
 }
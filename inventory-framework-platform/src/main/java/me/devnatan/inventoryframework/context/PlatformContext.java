@@ -6,7 +6,6 @@ import me.devnatan.inventoryframework.*;
 import me.devnatan.inventoryframework.component.Component;
 import me.devnatan.inventoryframework.component.ComponentComposition;
 import me.devnatan.inventoryframework.component.ComponentContainer;
-import me.devnatan.inventoryframework.state.State;
 import me.devnatan.inventoryframework.state.StateValue;
 import me.devnatan.inventoryframework.state.StateWatcher;
 import org.jetbrains.annotations.NotNull;
@@ -163,10 +162,7 @@ public abstract class PlatformContext extends AbstractIFContext implements Compo
     @Override
     protected void callStateListeners(@NotNull StateValue value, Consumer<StateWatcher> call) {
         super.callStateListeners(value, call);
-        for (final State<?> state : getRoot().getStateRegistry()) {
-            if (!(state instanceof StateWatcher)) continue;
-            call.accept((StateWatcher) state);
-        }
+        getRoot().getStateRegistry().forEachWatcher(call);
     }
 
     @Override
@@ -4,9 +4,11 @@ import static me.devnatan.inventoryframework.utils.SlotConverter.convertSlot;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
@@ -25,6 +27,10 @@ import me.devnatan.inventoryframework.component.ComponentFactory;
 import me.devnatan.inventoryframework.component.ItemComponentBuilder;
 import me.devnatan.inventoryframework.component.PlatformComponentBuilder;
 import me.devnatan.inventoryframework.internal.LayoutSlot;
+import me.devnatan.inventoryframework.state.State;
+import me.devnatan.inventoryframework.state.StateSlotLayout;
+import me.devnatan.inventoryframework.state.StateWatcher;
+import me.devnatan.inventoryframework.state.StateWatcherRegistration;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.UnmodifiableView;
@@ -49,6 +55,19 @@ public abstract class PlatformRenderContext<ITEM_BUILDER extends ItemComponentBu
     private final List<LayoutSlot> layoutSlots = new ArrayList<>();
     private final List<BiFunction<Integer, Integer, ComponentBuilder>> availableSlotFactories = new ArrayList<>();
 
+    // --- Batched state updates ---
+    // Components are deduplicated by identity since equal components may still be distinct ones
+    private final List<Component> dirtyComponents = new ArrayList<>();
+    private final Set<Component> dirtyComponentsSet = Collections.newSetFromMap(new IdentityHashMap<>());
+    private boolean flushScheduled;
+
+    // --- Unchanged updates skipping ---
+    private final Map<Component, Long> componentVersions = new IdentityHashMap<>();
+    private volatile boolean scheduledUpdate;
+
+    // --- Component watchers ---
+    private final Map<Component, List<StateWatcherRegistration>> componentWatchers = new IdentityHashMap<>();
+
     PlatformRenderContext(
             @NotNull UUID id,
             @NotNull PlatformView root,
@@ -64,6 +83,14 @@ public abstract class PlatformRenderContext<ITEM_BUILDER extends ItemComponentBu
         this.viewers = viewers;
         this.subject = subject;
         this.initialData = initialData;
+
+        if (config.isOptionSet(ViewConfig.CONCURRENT_STATES)) {
+            final boolean platformThreadWatchers = config.isOptionSet(ViewConfig.STATE_WATCHERS_ON_PLATFORM_THREAD);
+            useConcurrentStorage(platformThreadWatchers ? root.getPlatformExecutor() : null);
+        }
+
+        final StateSlotLayout slotLayout = root.getStateRegistry().getSlotLayout();
+        if (slotLayout != null) useSlotLayout(slotLayout);
     }
 
     // region Slot Assignment Methods
@@ -364,22 +391,124 @@ public abstract class PlatformRenderContext<ITEM_BUILDER extends ItemComponentBu
                 if (overlap.isVisible()) return;
             }
 
-            component.getPipeline().execute(Component.CLEAR, this);
+            component.getExecutionPipeline().execute(Component.CLEAR, this);
             clearComponent(component);
             return;
         }
 
-        component.getPipeline().execute(Component.RENDER, createComponentRenderContext(component, false));
+        trackComponentVersion(component);
+        component.getExecutionPipeline().execute(Component.RENDER, createComponentRenderContext(component, false));
     }
 
     @Override
     public final void updateComponent(Component component, boolean force, UpdateReason reason) {
-        component.getPipeline().execute(Component.UPDATE, createComponentUpdateContext(component, force, reason));
+        trackComponentVersion(component);
+        component
+                .getExecutionPipeline()
+                .execute(Component.UPDATE, createComponentUpdateContext(component, force, reason));
+    }
+
+    @Override
+    public final void invalidateComponent(@NotNull Component component) {
+        if (!getConfig().isOptionSet(ViewConfig.BATCH_STATE_UPDATES)) {
+            updateComponent(component, false, null);
+            return;
+        }
+
+        synchronized (dirtyComponents) {
+            if (!dirtyComponentsSet.add(component)) return;
+
+            dirtyComponents.add(component);
+            if (flushScheduled) return;
+            flushScheduled = true;
+        }
+
+        getRoot().nextTick(this::flushStateUpdates);
+    }
+
+    @Override
+    public final void flushStateUpdates() {
+        final Component[] dirty;
+        synchronized (dirtyComponents) {
+            flushScheduled = false;
+            if (dirtyComponents.isEmpty()) return;
+
+            dirty = dirtyComponents.toArray(new Component[0]);
+            dirtyComponents.clear();
+            dirtyComponentsSet.clear();
+        }
+
+        if (!isActive()) return;
+        for (final Component component : dirty) updateComponent(component, false, null);
     }
 
     @Override
     public final void clearComponent(@NotNull Component component) {}
 
+    /**
+     * Remembers the current state version as the version the given component is rendered against,
+     * read before rendering so changes made while the component is rendered are not missed.
+     */
+    private void trackComponentVersion(Component component) {
+        if (!getConfig().isOptionSet(ViewConfig.SKIP_UNCHANGED_UPDATES)) return;
+
+        final long version = getStateVersion();
+        synchronized (componentVersions) {
+            componentVersions.put(component, version);
+        }
+    }
+
+    @Override
+    public final boolean isComponentUpToDate(@NotNull Component component) {
+        final Long version;
+        synchronized (componentVersions) {
+            version = componentVersions.get(component);
+        }
+
+        return version != null && version == getStateVersion();
+    }
+
+    @Override
+    public final boolean isScheduledUpdate() {
+        return scheduledUpdate;
+    }
+
+    @Override
+    public final void setScheduledUpdate(boolean scheduledUpdate) {
+        this.scheduledUpdate = scheduledUpdate;
+    }
+
+    @Override
+    public final void watchComponentStates(@NotNull Component component) {
+        final Set<State<?>> states = component.getWatchingStates();
+        if (states.isEmpty()) return;
+
+        synchronized (componentWatchers) {
+            if (componentWatchers.containsKey(component)) return;
+
+            final StateWatcher watcher = component instanceof StateWatcher
+                    ? (StateWatcher) component
+                    : new SingleComponentStateWatcherUpdater(this, component);
+            final List<StateWatcherRegistration> registrations = new ArrayList<>(states.size());
+            for (final State<?> state : states) registrations.add(watchState(state.internalId(), watcher));
+
+            componentWatchers.put(component, registrations);
+        }
+    }
+
+    @Override
+    public final void unwatchComponentStates(@NotNull Component component) {
+        final List<StateWatcherRegistration> registrations;
+        synchronized (componentWatchers) {
+            registrations = componentWatchers.remove(component);
+        }
+        synchronized (componentVersions) {
+            componentVersions.remove(component);
+        }
+
+        if (registrations != null) registrations.forEach(StateWatcherRegistration::unregister);
+    }
+
     /**
      * Creates a IFComponentRenderContext for the current platform.
      *
@@ -0,0 +1,45 @@
+package me.devnatan.inventoryframework.context;
+
+import me.devnatan.inventoryframework.component.Component;
+import me.devnatan.inventoryframework.state.State;
+import me.devnatan.inventoryframework.state.StateValue;
+import me.devnatan.inventoryframework.state.StateValueHost;
+import me.devnatan.inventoryframework.state.StateWatcher;
+import org.jetbrains.annotations.NotNull;
+
+class SingleComponentStateWatcherUpdater implements StateWatcher {
+
+    private final IFRenderContext root;
+    private final Component componentToUpdate;
+
+    public SingleComponentStateWatcherUpdater(IFRenderContext root, Component componentToUpdate) {
+        this.root = root;
+        this.componentToUpdate = componentToUpdate;
+    }
+
+    @Override
+    public void stateRegistered(@NotNull State<?> state, Object caller) {}
+
+    @Override
+    public void stateUnregistered(@NotNull State<?> state, Object caller) {}
+
+    @Override
+    public void stateValueGet(
+            @NotNull State<?> state,
+            @NotNull StateValueHost host,
+            @NotNull StateValue internalValue,
+            Object rawValue) {}
+
+    @Override
+    public void stateValueSet(
+            @NotNull StateValueHost host, @NotNull StateValue value, Object rawOldValue, Object rawNewValue) {
+        root.invalidateComponent(componentToUpdate);
+    }
+
+    @Override
+    public String toString() {
+        return "SingleComponentStateWatcherUpdater{" + "root="
+                + root + ", componentToUpdate="
+                + componentToUpdate + '}';
+    }
+}
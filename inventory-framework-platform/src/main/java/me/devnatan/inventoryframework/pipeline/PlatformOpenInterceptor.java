@@ -6,6 +6,8 @@ import me.devnatan.inventoryframework.context.IFOpenContext;
 import me.devnatan.inventoryframework.context.IFRenderContext;
 import me.devnatan.inventoryframework.exception.InvalidLayoutException;
 import me.devnatan.inventoryframework.internal.ElementFactory;
+import me.devnatan.inventoryframework.state.DerivedValue;
+import me.devnatan.inventoryframework.state.MemoizedValue;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.TestOnly;
 
@@ -29,14 +31,12 @@ public final class PlatformOpenInterceptor implements PipelineInterceptor<Virtua
             return;
         }
 
-        openContext
-                .getAsyncOpenJob()
-                .thenRun(() -> finishOpen(pipeline, openContext))
-                .exceptionally(error -> {
-                    // TODO invalidate context
-                    pipeline.finish();
+        // TODO invalidate context if the opening job fails
+        pipeline.suspendUntil(
+                openContext.getAsyncOpenJob().exceptionally(error -> {
                     throw new InventoryFrameworkException("An error occurred in the opening asynchronous job.", error);
-                });
+                }),
+                $ -> finishOpen(pipeline, openContext));
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
@@ -84,7 +84,11 @@ public final class PlatformOpenInterceptor implements PipelineInterceptor<Virtua
                 openContext.getInitialData());
 
         renderContext.setEndless(openContext.isEndless());
-        openContext.getStateValues().forEach(renderContext::initializeState);
+        openContext.getStateValues().forEach((id, value) -> {
+            // Values bound to the open context are created again against the render context when read
+            if (value instanceof DerivedValue || value instanceof MemoizedValue) return;
+            renderContext.initializeState(id, value);
+        });
 
         for (final Viewer viewer : openContext.getIndexedViewers().values()) {
             if (!viewer.isTransitioning()) viewer.setActiveContext(renderContext);
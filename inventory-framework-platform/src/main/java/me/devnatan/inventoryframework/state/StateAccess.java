@@ -2,11 +2,14 @@ package me.devnatan.inventoryframework.state;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import me.devnatan.inventoryframework.component.Pagination;
 import me.devnatan.inventoryframework.component.PaginationBuilder;
 import me.devnatan.inventoryframework.component.PaginationValueConsumer;
+import me.devnatan.inventoryframework.component.StreamingPaginationSource;
+import me.devnatan.inventoryframework.component.WindowedPaginationSource;
 import me.devnatan.inventoryframework.context.IFOpenContext;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -61,6 +64,22 @@ public interface StateAccess<CONTEXT, COMPONENT_BUILDER> {
      */
     MutableIntState mutableState(int initialValue);
 
+    /**
+     * Creates a {@link MutableState mutable state} with an initial value.
+     *
+     * <pre>{@code
+     * MutableLongState longState = mutableState(0L);
+     *
+     * longState.get(...); // 0
+     * longState.addAndGet(4, ...);
+     * longState.get(...); // 4
+     * }</pre>
+     *
+     * @param initialValue The initial value of the state.
+     * @return A mutable state with an initial value.
+     */
+    MutableLongState mutableState(long initialValue);
+
     /**
      * Creates an immutable computed state.
      * <p>
@@ -97,6 +116,93 @@ public interface StateAccess<CONTEXT, COMPONENT_BUILDER> {
      */
     <T> State<T> computedState(@NotNull Supplier<T> computation);
 
+    /**
+     * Creates an immutable memoized computed state.
+     * <p>
+     * A memoized state is a computed state whose value is cached and only computed again when
+     * one of the states read by the {@code computation} function in the last computation is set.
+     * <pre>{@code
+     * State<Integer> coinsState = mutableState(10);
+     * State<String> coinsTextState = memoizedState(context -> "Coins: " + coinsState.get(context));
+     *
+     * coinsTextState.get(...); // "Coins: 10" - computed
+     * coinsTextState.get(...); // "Coins: 10" - cached
+     * coinsState.set(20, ...);
+     * coinsTextState.get(...); // "Coins: 20" - computed again since coinsState changed
+     * }</pre>
+     * <p>
+     * Only states read from the same context are tracked as dependencies, the computation must
+     * not depend on anything else that can change, e.g.: the current time.
+     *
+     * <p><b><i> This API is experimental and is not subject to the general compatibility guarantees
+     * such API may be changed or may be removed completely in any further release. </i></b>
+     *
+     * @param computation The function to compute the value.
+     * @param <T>         The state value type.
+     * @return An immutable memoized computed state.
+     */
+    @ApiStatus.Experimental
+    <T> State<T> memoizedState(@NotNull Function<CONTEXT, T> computation);
+
+    /**
+     * Creates an immutable state derived from the value of another state.
+     * <p>
+     * The derived value is computed when the state is first read and then kept up to date,
+     * computed again only when the input state is set.
+     * <pre>{@code
+     * MutableIntState coinsState = mutableState(10);
+     * State<String> coinsTextState = derivedState(coinsState, coins -> "Coins: " + coins);
+     * }</pre>
+     * <p>
+     * Watchers of the derived state are only notified if the derived value is not
+     * {@link Object#equals(Object) equal} to the previous one.
+     *
+     * <p><b><i> This API is experimental and is not subject to the general compatibility guarantees
+     * such API may be changed or may be removed completely in any further release. </i></b>
+     *
+     * @param input      The state the value is derived from.
+     * @param derivation The function to derive the value from the input state value.
+     * @param <A>        The input state value type.
+     * @param <T>        The state value type.
+     * @return An immutable derived state.
+     * @see #derivedState(State, State, BiFunction)
+     */
+    @ApiStatus.Experimental
+    <A, T> State<T> derivedState(@NotNull State<A> input, @NotNull Function<A, T> derivation);
+
+    /**
+     * Creates an immutable state derived from the values of two other states.
+     * <p>
+     * The derived value is computed when the state is first read and then kept up to date,
+     * computed again only when one of the input states is set. Inputs can be derived states
+     * themselves, when a state is set all states derived from it, directly or not, are computed
+     * again before any watcher is notified, each one once and only after the derived states it
+     * depends on, so a derived state is never observed out of date with its inputs.
+     * <pre>{@code
+     * MutableIntState priceState = mutableState(10);
+     * MutableIntState amountState = mutableState(2);
+     * State<Integer> totalState = derivedState(priceState, amountState, (price, amount) -> price * amount);
+     * }</pre>
+     * <p>
+     * Watchers of the derived state are only notified if the derived value is not
+     * {@link Object#equals(Object) equal} to the previous one, and the states derived from it
+     * are not computed again in that case.
+     *
+     * <p><b><i> This API is experimental and is not subject to the general compatibility guarantees
+     * such API may be changed or may be removed completely in any further release. </i></b>
+     *
+     * @param first      The first state the value is derived from.
+     * @param second     The second state the value is derived from.
+     * @param derivation The function to derive the value from the input states values.
+     * @param <A>        The first input state value type.
+     * @param <B>        The second input state value type.
+     * @param <T>        The state value type.
+     * @return An immutable derived state.
+     */
+    @ApiStatus.Experimental
+    <A, B, T> State<T> derivedState(
+            @NotNull State<A> first, @NotNull State<B> second, @NotNull BiFunction<A, B, T> derivation);
+
     /**
      * Creates an immutable lazy state.
      * <p>
@@ -255,6 +361,46 @@ public interface StateAccess<CONTEXT, COMPONENT_BUILDER> {
             @NotNull Function<CONTEXT, CompletableFuture<List<T>>> sourceProvider,
             @NotNull PaginationValueConsumer<CONTEXT, COMPONENT_BUILDER, T> valueConsumer);
 
+    /**
+     * Creates a new unmodifiable windowed pagination state.
+     * <p>
+     * Unlike other pagination states, only the elements of the current page are requested to the
+     * data source, and the number of pages is based on the total count it reports.
+     * <p>
+     * <b><i> This API is experimental and is not subject to the general compatibility guarantees
+     * such API may be changed or may be removed completely in any further release. </i></b>
+     *
+     * @param sourceProvider The data source for pagination.
+     * @param valueConsumer  The function for creating pagination items, this function is called for
+     *                       each paged element (item) on a page.
+     * @param <T>            The pagination data type.
+     * @return A new unmodifiable pagination state.
+     */
+    @ApiStatus.Experimental
+    <T> State<Pagination> windowedPaginationState(
+            @NotNull WindowedPaginationSource<CONTEXT, T> sourceProvider,
+            @NotNull PaginationValueConsumer<CONTEXT, COMPONENT_BUILDER, T> valueConsumer);
+
+    /**
+     * Creates a new unmodifiable streaming pagination state.
+     * <p>
+     * Elements are pulled from the data source at most one page ahead of the current page and the
+     * total number of elements is never computed, so the data source is never read as a whole.
+     * <p>
+     * <b><i> This API is experimental and is not subject to the general compatibility guarantees
+     * such API may be changed or may be removed completely in any further release. </i></b>
+     *
+     * @param sourceProvider The data source for pagination.
+     * @param valueConsumer  The function for creating pagination items, this function is called for
+     *                       each paged element (item) on a page.
+     * @param <T>            The pagination data type.
+     * @return A new unmodifiable pagination state.
+     */
+    @ApiStatus.Experimental
+    <T> State<Pagination> streamingPaginationState(
+            @NotNull StreamingPaginationSource<CONTEXT, T> sourceProvider,
+            @NotNull PaginationValueConsumer<CONTEXT, COMPONENT_BUILDER, T> valueConsumer);
+
     /**
      * Creates a new unmodifiable static pagination state builder.
      *
@@ -321,4 +467,38 @@ public interface StateAccess<CONTEXT, COMPONENT_BUILDER> {
     @ApiStatus.Experimental
     <T> PaginationBuilder<CONTEXT, COMPONENT_BUILDER, T> buildLazyAsyncPaginationState(
             @NotNull Function<CONTEXT, CompletableFuture<List<T>>> sourceProvider);
+
+    /**
+     * Creates a new unmodifiable windowed pagination state builder.
+     * <p>
+     * Unlike other pagination states, only the elements of the current page are requested to the
+     * data source, and the number of pages is based on the total count it reports.
+     * <p>
+     * <b><i> This API is experimental and is not subject to the general compatibility guarantees
+     * such API may be changed or may be removed completely in any further release. </i></b>
+     *
+     * @param sourceProvider The data source for pagination.
+     * @param <T>            The pagination data type.
+     * @return A new pagination state builder.
+     */
+    @ApiStatus.Experimental
+    <T> PaginationBuilder<CONTEXT, COMPONENT_BUILDER, T> buildWindowedPaginationState(
+            @NotNull WindowedPaginationSource<CONTEXT, T> sourceProvider);
+
+    /**
+     * Creates a new unmodifiable streaming pagination state builder.
+     * <p>
+     * Elements are pulled from the data source at most one page ahead of the current page and the
+     * total number of elements is never computed, so the data source is never read as a whole.
+     * <p>
+     * <b><i> This API is experimental and is not subject to the general compatibility guarantees
+     * such API may be changed or may be removed completely in any further release. </i></b>
+     *
+     * @param sourceProvider The data source for pagination.
+     * @param <T>            The pagination data type.
+     * @return A new pagination state builder.
+     */
+    @ApiStatus.Experimental
+    <T> PaginationBuilder<CONTEXT, COMPONENT_BUILDER, T> buildStreamingPaginationState(
+            @NotNull StreamingPaginationSource<CONTEXT, T> sourceProvider);
 }
@@ -2,6 +2,7 @@ package me.devnatan.inventoryframework.state;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import me.devnatan.inventoryframework.VirtualView;
@@ -9,6 +10,8 @@ import me.devnatan.inventoryframework.component.Pagination;
 import me.devnatan.inventoryframework.component.PaginationBuilder;
 import me.devnatan.inventoryframework.component.PaginationImpl;
 import me.devnatan.inventoryframework.component.PaginationValueConsumer;
+import me.devnatan.inventoryframework.component.StreamingPaginationSource;
+import me.devnatan.inventoryframework.component.WindowedPaginationSource;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
@@ -50,13 +53,23 @@ public final class StateAccessImpl<CONTEXT, ITEM_BUILDER> implements StateAccess
     @Override
     public MutableIntState mutableState(int initialValue) {
         final long id = State.next();
-        final StateValueFactory factory = (host, state) -> new MutableValue(id, initialValue);
+        final StateValueFactory factory = (host, state) -> new IntValue(id, initialValue);
         final MutableIntState state = new MutableIntStateImpl(id, factory);
         this.stateRegistry.registerState(state, this);
 
         return state;
     }
 
+    @Override
+    public MutableLongState mutableState(long initialValue) {
+        final long id = State.next();
+        final StateValueFactory factory = (host, state) -> new LongValue(id, initialValue);
+        final MutableLongState state = new MutableLongStateImpl(id, factory);
+        this.stateRegistry.registerState(state, this);
+
+        return state;
+    }
+
     @Override
     public <T> State<T> computedState(@NotNull Function<CONTEXT, T> computation) {
         final long id = State.next();
@@ -79,6 +92,45 @@ public final class StateAccessImpl<CONTEXT, ITEM_BUILDER> implements StateAccess
         return state;
     }
 
+    @Override
+    public <T> State<T> memoizedState(@NotNull Function<CONTEXT, T> computation) {
+        final long id = State.next();
+        @SuppressWarnings("unchecked")
+        final StateValueFactory factory =
+                (host, state) -> new MemoizedValue(id, host, () -> computation.apply((CONTEXT) host));
+        final State<T> state = new BaseState<>(id, factory);
+        this.stateRegistry.registerState(state, this);
+
+        return state;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <A, T> State<T> derivedState(@NotNull State<A> input, @NotNull Function<A, T> derivation) {
+        final long id = State.next();
+        final State<?>[] inputs = {input};
+        final StateValueFactory factory =
+                (host, state) -> new DerivedValue(id, host, inputs, args -> derivation.apply((A) args[0]));
+        final State<T> state = new BaseState<>(id, factory);
+        this.stateRegistry.registerState(state, this);
+
+        return state;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <A, B, T> State<T> derivedState(
+            @NotNull State<A> first, @NotNull State<B> second, @NotNull BiFunction<A, B, T> derivation) {
+        final long id = State.next();
+        final State<?>[] inputs = {first, second};
+        final StateValueFactory factory = (host, state) ->
+                new DerivedValue(id, host, inputs, args -> derivation.apply((A) args[0], (B) args[1]));
+        final State<T> state = new BaseState<>(id, factory);
+        this.stateRegistry.registerState(state, this);
+
+        return state;
+    }
+
     @Override
     public <T> State<T> lazyState(@NotNull Function<CONTEXT, T> computation) {
         final long id = State.next();
@@ -163,6 +215,20 @@ public final class StateAccessImpl<CONTEXT, ITEM_BUILDER> implements StateAccess
                 buildLazyAsyncPaginationState(sourceProvider).elementFactory(valueConsumer));
     }
 
+    @Override
+    public <T> State<Pagination> windowedPaginationState(
+            @NotNull WindowedPaginationSource<CONTEXT, T> sourceProvider,
+            @NotNull PaginationValueConsumer<CONTEXT, ITEM_BUILDER, T> valueConsumer) {
+        return createPaginationState(buildWindowedPaginationState(sourceProvider).elementFactory(valueConsumer));
+    }
+
+    @Override
+    public <T> State<Pagination> streamingPaginationState(
+            @NotNull StreamingPaginationSource<CONTEXT, T> sourceProvider,
+            @NotNull PaginationValueConsumer<CONTEXT, ITEM_BUILDER, T> valueConsumer) {
+        return createPaginationState(buildStreamingPaginationState(sourceProvider).elementFactory(valueConsumer));
+    }
+
     @Override
     public <T> PaginationBuilder<CONTEXT, ITEM_BUILDER, T> buildPaginationState(
             @NotNull List<? super T> sourceProvider) {
@@ -199,6 +265,18 @@ public final class StateAccessImpl<CONTEXT, ITEM_BUILDER> implements StateAccess
         return new PaginationBuilder<>(sourceProvider, true, false);
     }
 
+    @Override
+    public <T> PaginationBuilder<CONTEXT, ITEM_BUILDER, T> buildWindowedPaginationState(
+            @NotNull WindowedPaginationSource<CONTEXT, T> sourceProvider) {
+        return new PaginationBuilder<>(sourceProvider, true, false);
+    }
+
+    @Override
+    public <T> PaginationBuilder<CONTEXT, ITEM_BUILDER, T> buildStreamingPaginationState(
+            @NotNull StreamingPaginationSource<CONTEXT, T> sourceProvider) {
+        return new PaginationBuilder<>(sourceProvider, false, false);
+    }
+
     <V> State<Pagination> createPaginationState(@NotNull PaginationBuilder<CONTEXT, ITEM_BUILDER, V> builder) {
         final long id = State.next();
         final PaginationImpl pagination = (PaginationImpl) builder.buildComponent(caller);
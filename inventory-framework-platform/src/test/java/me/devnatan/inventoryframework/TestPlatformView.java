@@ -0,0 +1,40 @@
+package me.devnatan.inventoryframework;
+
+import java.util.ArrayList;
+import java.util.List;
+import me.devnatan.inventoryframework.component.ItemComponentBuilder;
+import me.devnatan.inventoryframework.context.IFCloseContext;
+import me.devnatan.inventoryframework.context.IFContext;
+import me.devnatan.inventoryframework.context.IFOpenContext;
+import me.devnatan.inventoryframework.context.IFRenderContext;
+import me.devnatan.inventoryframework.context.IFSlotClickContext;
+
+public final class TestPlatformView
+        extends PlatformView<
+                TestPlatformView.Frame,
+                Object,
+                ItemComponentBuilder,
+                IFContext,
+                IFOpenContext,
+                IFCloseContext,
+                IFRenderContext,
+                IFSlotClickContext> {
+
+    public final List<Runnable> nextTickTasks = new ArrayList<>();
+
+    @Override
+    public void nextTick(Runnable task) {
+        nextTickTasks.add(task);
+    }
+
+    public void runNextTickTasks() {
+        final List<Runnable> tasks = new ArrayList<>(nextTickTasks);
+        nextTickTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    @Override
+    void registerPlatformInterceptors() {}
+
+    abstract static class Frame extends IFViewFrame<Frame, TestPlatformView> {}
+}
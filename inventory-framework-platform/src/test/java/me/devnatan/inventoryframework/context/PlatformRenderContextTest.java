@@ -0,0 +1,160 @@
+package me.devnatan.inventoryframework.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import me.devnatan.inventoryframework.TestPlatformView;
+import me.devnatan.inventoryframework.ViewConfigBuilder;
+import me.devnatan.inventoryframework.component.AbstractComponent;
+import me.devnatan.inventoryframework.component.Component;
+import me.devnatan.inventoryframework.state.BaseMutableState;
+import me.devnatan.inventoryframework.state.MutableState;
+import me.devnatan.inventoryframework.state.MutableValue;
+import me.devnatan.inventoryframework.state.State;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+public class PlatformRenderContextTest {
+
+    private final TestPlatformView root = new TestPlatformView();
+    private final List<Component> updated = new ArrayList<>();
+
+    private TestRenderContext createBatchingContext() {
+        return new TestRenderContext(root, new ViewConfigBuilder().batchStateUpdates().build());
+    }
+
+    @Test
+    public void repeatedInvalidationsAreCoalesced() {
+        final TestRenderContext context = createBatchingContext();
+        final TestComponent component = new TestComponent(0);
+
+        context.invalidateComponent(component);
+        context.invalidateComponent(component);
+        context.invalidateComponent(component);
+        assertTrue(updated.isEmpty());
+        assertEquals(1, root.nextTickTasks.size());
+
+        root.runNextTickTasks();
+        assertEquals(Collections.singletonList(component), updated);
+    }
+
+    @Test
+    public void equalComponentsAreNotCoalesced() {
+        final TestRenderContext context = createBatchingContext();
+        final TestComponent first = new TestComponent(0);
+        final TestComponent second = new TestComponent(0);
+
+        context.invalidateComponent(first);
+        context.invalidateComponent(second);
+        context.invalidateComponent(first);
+
+        root.runNextTickTasks();
+        assertEquals(2, updated.size());
+        assertSame(first, updated.get(0));
+        assertSame(second, updated.get(1));
+    }
+
+    @Test
+    public void componentsChangedWhileQueuedAreCoalesced() {
+        final TestRenderContext context = createBatchingContext();
+        final TestComponent component = new TestComponent(0);
+
+        context.invalidateComponent(component);
+        component.position = 1;
+        context.invalidateComponent(component);
+
+        root.runNextTickTasks();
+        assertEquals(Collections.singletonList(component), updated);
+    }
+
+    @Test
+    public void componentsInvalidatedAfterFlushAreUpdatedAgain() {
+        final TestRenderContext context = createBatchingContext();
+        final TestComponent component = new TestComponent(0);
+
+        context.invalidateComponent(component);
+        root.runNextTickTasks();
+        context.invalidateComponent(component);
+        root.runNextTickTasks();
+        assertEquals(Arrays.asList(component, component), updated);
+    }
+
+    @Test
+    public void componentWatchersAreBoundedAcrossPageSwitches() {
+        final TestRenderContext context = new TestRenderContext(root, new ViewConfigBuilder().build());
+        final MutableState<Integer> state = mutableState(context);
+        List<TestComponent> page = Collections.emptyList();
+
+        // watches the components of each page and unwatches the previous ones, as paginations do
+        for (int pageIndex = 0; pageIndex < 10; pageIndex++) {
+            page.forEach(context::unwatchComponentStates);
+            page = Arrays.asList(new TestComponent(0, state), new TestComponent(1, state));
+            page.forEach(context::watchComponentStates);
+            page.forEach(context::watchComponentStates);
+        }
+
+        state.set(1, context);
+        assertEquals(page, updated);
+    }
+
+    @Test
+    public void unwatchedComponentsAreNotUpdated() {
+        final TestRenderContext context = new TestRenderContext(root, new ViewConfigBuilder().build());
+        final MutableState<Integer> state = mutableState(context);
+        final TestComponent component = new TestComponent(0, state);
+
+        context.watchComponentStates(component);
+        state.set(1, context);
+        assertEquals(Collections.singletonList(component), updated);
+
+        context.unwatchComponentStates(component);
+        state.set(2, context);
+        assertEquals(Collections.singletonList(component), updated);
+    }
+
+    private static MutableState<Integer> mutableState(TestRenderContext context) {
+        final long id = State.next();
+        final MutableState<Integer> state = new BaseMutableState<>(id, (host, $) -> new MutableValue(id, 0));
+        state.get(context);
+        return state;
+    }
+
+    /**
+     * Component equal to any other one at the same position, like platform item components.
+     */
+    private final class TestComponent extends AbstractComponent {
+        int position;
+
+        TestComponent(int position, State<?>... watchingStates) {
+            super("test", null, null, new HashSet<>(Arrays.asList(watchingStates)), null);
+            this.position = position;
+            getPipeline().intercept(Component.UPDATE, (pipeline, subject) -> updated.add(this));
+        }
+
+        @Override
+        public boolean isContainedWithin(int position) {
+            return this.position == position;
+        }
+
+        @Override
+        public boolean intersects(@NotNull Component other) {
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof TestComponent && ((TestComponent) other).position == position;
+        }
+
+        @Override
+        public int hashCode() {
+            return position;
+        }
+    }
+}
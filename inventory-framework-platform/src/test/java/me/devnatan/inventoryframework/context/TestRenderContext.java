@@ -0,0 +1,39 @@
+package me.devnatan.inventoryframework.context;
+
+import java.util.HashMap;
+import java.util.UUID;
+import me.devnatan.inventoryframework.PlatformView;
+import me.devnatan.inventoryframework.TestPlatformView;
+import me.devnatan.inventoryframework.UpdateReason;
+import me.devnatan.inventoryframework.ViewConfig;
+import me.devnatan.inventoryframework.component.Component;
+import me.devnatan.inventoryframework.component.ItemComponentBuilder;
+import org.jetbrains.annotations.NotNull;
+
+final class TestRenderContext extends PlatformRenderContext<ItemComponentBuilder, IFContext> {
+
+    TestRenderContext(TestPlatformView root, ViewConfig config) {
+        super(UUID.randomUUID(), root, config, null, new HashMap<>(), null, null);
+        setActive(true);
+    }
+
+    @Override
+    public @NotNull PlatformView getRoot() {
+        return root;
+    }
+
+    @Override
+    IFComponentRenderContext createComponentRenderContext(Component component, boolean force) {
+        return null;
+    }
+
+    @Override
+    IFComponentUpdateContext createComponentUpdateContext(Component component, boolean force, UpdateReason reason) {
+        return null;
+    }
+
+    @Override
+    protected ItemComponentBuilder createBuilder() {
+        return null;
+    }
+}